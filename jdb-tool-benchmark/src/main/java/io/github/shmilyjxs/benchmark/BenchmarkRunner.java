@@ -0,0 +1,28 @@
+package io.github.shmilyjxs.benchmark;
+
+import io.github.shmilyjxs.core.impl.DaoContextImpl;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.util.Optional;
+
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        String version = Optional.ofNullable(DaoContextImpl.class.getPackage().getImplementationVersion()).orElse(System.getProperty("jdb.version", "dev"));
+        File resultFile = new File(System.getProperty("jdb.result.dir", "target"), "jmh-result-" + version + ".json");
+        Optional.ofNullable(resultFile.getParentFile()).ifPresent(File::mkdirs);
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.getPath())
+                .build();
+        new Runner(options).run();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package io.github.shmilyjxs.benchmark;
+
+import io.github.shmilyjxs.utils.PageResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoBenchmark {
+
+    @Benchmark
+    public int insert(DaoState state) {
+        return state.daoContext.insert(DaoState.newUser(0));
+    }
+
+    @Benchmark
+    public void batchInsert(DaoState state) {
+        state.daoContext.batchInsert(DaoState.newUsers(1000));
+    }
+
+    @Benchmark
+    public BenchUser getBean(DaoState state) {
+        return state.daoContext.getBean(state.randomId(), BenchUser.class);
+    }
+
+    @Benchmark
+    public List<BenchUser> getBeans(DaoState state) {
+        return state.daoContext.getBeans(state.randomIds(100), BenchUser.class);
+    }
+
+    @Benchmark
+    public List<BenchUser> getBeansByExample(DaoState state) {
+        BenchUser example = new BenchUser();
+        example.setAge(42);
+        return state.daoContext.getBeans(example);
+    }
+
+    @Benchmark
+    public PageResult<BenchUser> deepPage(DaoState state) {
+        return state.daoContext.getPage(new BenchUser(), 90L, 100L, "ORDER BY ID");
+    }
+
+    @Benchmark
+    public Object getTableInfo(DaoState state) {
+        return state.daoContext.getTableInfo(BenchUser.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package io.github.shmilyjxs.benchmark;
+
+import io.github.shmilyjxs.core.impl.DaoContextImpl;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+public class DaoState {
+
+    public static final int ROWS = 10000;
+
+    public DaoContextImpl daoContext;
+
+    public List<String> ids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:bench_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1");
+        daoContext = new DaoContextImpl(dataSource);
+        daoContext.nativeUpdate("CREATE TABLE BENCH_USER ( ID VARCHAR(64) PRIMARY KEY , USER_NAME VARCHAR(64) , AGE INT , CREATE_TIME TIMESTAMP )");
+        daoContext.nativeUpdate("CREATE INDEX IDX_BENCH_USER_AGE ON BENCH_USER ( AGE )");
+        daoContext.getTableInfo(BenchUser.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        daoContext.nativeUpdate("TRUNCATE TABLE BENCH_USER");
+        daoContext.batchInsert(newUsers(ROWS));
+        ids = daoContext.scalarList("SELECT ID FROM BENCH_USER", String.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        daoContext.nativeUpdate("SHUTDOWN");
+    }
+
+    public String randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    public List<String> randomIds(int size) {
+        return IntStream.range(0, size).mapToObj(e -> randomId()).collect(Collectors.toList());
+    }
+
+    public static BenchUser newUser(int index) {
+        BenchUser user = new BenchUser();
+        user.setUserName("user_" + index);
+        user.setAge(index % 100);
+        user.setCreateTime(new Timestamp(System.currentTimeMillis()));
+        return user;
+    }
+
+    public static List<BenchUser> newUsers(int size) {
+        List<BenchUser> users = new ArrayList<>(size);
+        IntStream.range(0, size).forEach(e -> users.add(newUser(e)));
+        return users;
+    }
+}
\ No newline at end of file
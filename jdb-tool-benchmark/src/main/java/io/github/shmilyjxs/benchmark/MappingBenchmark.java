@@ -0,0 +1,102 @@
+package io.github.shmilyjxs.benchmark;
+
+import io.github.shmilyjxs.utils.BeanExtractor;
+import io.github.shmilyjxs.utils.BeanMapper;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private BeanExtractor<BenchUser> extractor;
+
+    private BeanMapper<BenchUser> mapper;
+
+    private BenchUser user;
+
+    @Setup
+    public void setup() {
+        Map<String, String> convertMap = new LinkedHashMap<>();
+        convertMap.put("id", "ID");
+        convertMap.put("userName", "USER_NAME");
+        convertMap.put("age", "AGE");
+        convertMap.put("createTime", "CREATE_TIME");
+        extractor = new BeanExtractor<>(BenchUser.class, convertMap);
+        mapper = new BeanMapper<>(BenchUser.class, convertMap);
+        user = DaoState.newUser(1);
+        user.setId("00000000-0000-0000-0000-000000000001");
+    }
+
+    @Benchmark
+    public Map<String, Object> buildMap() {
+        return extractor.toMap(user, true);
+    }
+
+    @Benchmark
+    public Object[] extractValues() {
+        return extractor.values(user);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<BenchUser> mapRows(Rows rows) throws SQLException {
+        ResultSet resultSet = rows.resultSet;
+        resultSet.beforeFirst();
+        RowMapper<BenchUser> rowMapper = mapper.rowMapper();
+        List<BenchUser> result = new ArrayList<>(ROWS);
+        int rowNum = 0;
+        while (resultSet.next()) {
+            result.add(rowMapper.mapRow(resultSet, rowNum++));
+        }
+        return result;
+    }
+
+    @State(Scope.Thread)
+    public static class Rows {
+
+        private ResultSet resultSet;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SimpleResultSet resultSet = new SimpleResultSet();
+            resultSet.setAutoClose(false);
+            resultSet.addColumn("ID", Types.VARCHAR, 64, 0);
+            resultSet.addColumn("USER_NAME", Types.VARCHAR, 64, 0);
+            resultSet.addColumn("AGE", Types.INTEGER, 10, 0);
+            resultSet.addColumn("CREATE_TIME", Types.TIMESTAMP, 26, 0);
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int index = 0; index < ROWS; index++) {
+                resultSet.addRow(String.valueOf(index), "user_" + index, index % 100, now);
+            }
+            this.resultSet = resultSet;
+        }
+    }
+}
\ No newline at end of file
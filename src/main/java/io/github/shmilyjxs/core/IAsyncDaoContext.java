@@ -0,0 +1,193 @@
+package io.github.shmilyjxs.core;
+
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import io.github.shmilyjxs.utils.TreeResult;
+import org.apache.commons.lang3.tuple.Triple;
+import org.intellij.lang.annotations.Language;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public interface IAsyncDaoContext {
+
+    IDaoContext getDaoContext();
+
+    Executor getExecutor();
+
+    <R> CompletableFuture<R> submit(Function<? super IDaoContext, ? extends R> function);
+
+    <T> CompletableFuture<T> scalar(@Language("SQL") final String sql, Class<T> mappedClass, Object... args);
+
+    <T> CompletableFuture<List<T>> scalarList(@Language("SQL") final String sql, Class<T> mappedClass, Object... args);
+
+    CompletableFuture<Long> count(@Language("SQL") final String sql, Object... args);
+
+    CompletableFuture<Boolean> exists(@Language("SQL") final String sql, Object... args);
+
+    CompletableFuture<Integer> nativeUpdate(@Language("SQL") final String sql, Object... args);
+
+    <T> CompletableFuture<T> selectBean(@Language("SQL") final String sql, Class<T> mappedClass, Object... args);
+
+    <T> CompletableFuture<List<T>> selectBeans(@Language("SQL") final String sql, Class<T> mappedClass, Object... args);
+
+    <T> CompletableFuture<PageResult<T>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args);
+
+    CompletableFuture<Map<String, Object>> selectMap(@Language("SQL") final String sql, Object... args);
+
+    CompletableFuture<List<Map<String, Object>>> selectList(@Language("SQL") final String sql, Object... args);
+
+    CompletableFuture<PageResult<Map<String, Object>>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args);
+
+    <T> CompletableFuture<SliceResult<T>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args);
+
+    CompletableFuture<SliceResult<Map<String, Object>>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args);
+
+    <T> CompletableFuture<KeysetResult<T>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass, Object... args);
+
+    CompletableFuture<KeysetResult<Map<String, Object>>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Object... args);
+
+    <T> CompletableFuture<Void> forEachBean(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Consumer<? super T> consumer, Object... args);
+
+    CompletableFuture<Void> forEachMap(@Language("SQL") final String sql, int fetchSize, Consumer<? super Map<String, Object>> consumer, Object... args);
+
+    CompletableFuture<Integer> insert(String tableName, Map<String, ?> columnMap);
+
+    CompletableFuture<Integer> batchInsert(String tableName, Collection<String> columns, Collection<Map<String, Object>> maps);
+
+    CompletableFuture<Integer> batchInsert(String tableName, Collection<String> columns, Iterator<? extends Map<String, ?>> iterator);
+
+    CompletableFuture<Integer> upsert(String tableName, Map<String, ?> columnMap, String idColumn);
+
+    CompletableFuture<Integer> batchUpsert(String tableName, Collection<String> columns, String idColumn, Collection<Map<String, Object>> maps);
+
+    CompletableFuture<Integer> bulkUpdate(String tableName, String idColumn, Collection<String> columns, Collection<Map<String, Object>> maps, boolean skipBlank);
+
+    CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, String columnName);
+
+    CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, Collection<String> columns);
+
+    CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, Map<String, ?> whereMap);
+
+    <C> CompletableFuture<Integer> delete(String tableName, String columnName, C columnValue);
+
+    CompletableFuture<Integer> delete(String tableName, Map<String, ?> columnMap);
+
+    <C> CompletableFuture<Integer> batchDelete(String tableName, String columnName, Collection<C> columnValues);
+
+    <T, C> CompletableFuture<T> getBean(String tableName, String columnName, C columnValue, Class<T> mappedClass);
+
+    <T> CompletableFuture<T> getBean(String tableName, Map<String, ?> columnMap, Class<T> mappedClass);
+
+    <T, C> CompletableFuture<List<T>> getBeans(String tableName, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<List<T>> getBeans(String tableName, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<T> getBean(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass);
+
+    <T, C> CompletableFuture<List<T>> getBeans(String tableName, Collection<String> columns, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<List<T>> getBeans(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<PageResult<T>> selectPage(String tableName, Collection<String> columns, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<PageResult<T>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<SliceResult<T>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<KeysetResult<T>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass);
+
+    <T, C> CompletableFuture<List<T>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql);
+
+    <T, C> CompletableFuture<List<T>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql);
+
+    <T, C> CompletableFuture<TreeResult<T>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass);
+
+    <T, C> CompletableFuture<TreeResult<T>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass);
+
+    <C> CompletableFuture<Map<String, Object>> getMap(String tableName, String columnName, C columnValue);
+
+    CompletableFuture<Map<String, Object>> getMap(String tableName, Map<String, ?> columnMap);
+
+    <C> CompletableFuture<List<Map<String, Object>>> getList(String tableName, String columnName, Collection<C> columnValues, String... lastSql);
+
+    CompletableFuture<List<Map<String, Object>>> getList(String tableName, Map<String, ?> columnMap, String... lastSql);
+
+    CompletableFuture<List<Map<String, Object>>> getList(String tableName, Collection<String> columns, Map<String, ?> columnMap, String... lastSql);
+
+    CompletableFuture<PageResult<Map<String, Object>>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql);
+
+    CompletableFuture<SliceResult<Map<String, Object>>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql);
+
+    CompletableFuture<KeysetResult<Map<String, Object>>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize);
+
+    <C> CompletableFuture<List<Map<String, Object>>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql);
+
+    <C> CompletableFuture<List<Map<String, Object>>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql);
+
+    <C> CompletableFuture<TreeResult<Map<String, Object>>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth);
+
+    <C> CompletableFuture<TreeResult<Map<String, Object>>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth);
+
+    <T> CompletableFuture<Triple<String, Map.Entry<Field, String>, Map<String, String>>> getTableInfo(T obj);
+
+    <T> CompletableFuture<Triple<String, Map.Entry<Field, String>, Map<String, String>>> getTableInfo(Class<T> clazz);
+
+    CompletableFuture<Void> preload(Collection<Class<?>> classes);
+
+    <T> CompletableFuture<Integer> insert(T obj);
+
+    CompletableFuture<Void> batchInsert(Collection<?> objs);
+
+    <T> CompletableFuture<Void> batchInsert(Iterator<T> objs, Class<T> mappedClass);
+
+    <T> CompletableFuture<Integer> updateById(T obj, boolean skipBlank);
+
+    CompletableFuture<Void> batchUpdate(Collection<?> objs, boolean skipBlank);
+
+    CompletableFuture<Void> bulkUpdate(Collection<?> objs, boolean skipBlank);
+
+    <T> CompletableFuture<Integer> insertOrUpdate(T obj);
+
+    CompletableFuture<Void> batchInsertOrUpdate(Collection<?> objs);
+
+    <T> CompletableFuture<Integer> deleteById(T obj);
+
+    CompletableFuture<Void> batchDelete(Collection<?> objs);
+
+    <T, ID> CompletableFuture<Integer> delete(ID idValue, Class<T> mappedClass);
+
+    <T, ID> CompletableFuture<Integer> batchDelete(Collection<ID> idValues, Class<T> mappedClass);
+
+    <T, ID> CompletableFuture<T> getBean(ID idValue, Class<T> mappedClass);
+
+    <T, ID> CompletableFuture<List<T>> getBeans(Collection<ID> idValues, Class<T> mappedClass, String... lastSql);
+
+    <T> CompletableFuture<Integer> delete(T example);
+
+    <T> CompletableFuture<T> getBean(T example);
+
+    <T> CompletableFuture<List<T>> getBeans(T example, String... lastSql);
+
+    <T> CompletableFuture<PageResult<T>> getPage(T example, long pageNum, long pageSize, String... lastSql);
+
+    <T, R> CompletableFuture<List<R>> getProjections(T example, Class<R> projection, String... lastSql);
+
+    <T, R> CompletableFuture<PageResult<R>> getProjectionPage(T example, long pageNum, long pageSize, Class<R> projection, String... lastSql);
+
+    <T> CompletableFuture<Void> loadLazy(Collection<T> objs, String... properties);
+
+    <T> CompletableFuture<SliceResult<T>> getSlice(T example, long pageNum, long pageSize, String... lastSql);
+
+    <T, ID> CompletableFuture<KeysetResult<T>> getKeyset(T example, ID lastId, long pageSize);
+
+    <T> CompletableFuture<KeysetResult<T>> getKeyset(T example, String keyProperty, Object lastKey, long pageSize);
+}
\ No newline at end of file
@@ -1,10 +1,13 @@
 package io.github.shmilyjxs.core;
 
+import io.github.shmilyjxs.utils.KeysetResult;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
 import org.apache.commons.lang3.tuple.Triple;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -14,14 +17,20 @@ public interface IBeanDao {
 
     <T> Triple<String, Map.Entry<Field, String>, Map<String, String>> getTableInfo(Class<T> clazz);
 
+    void preload(Collection<Class<?>> classes);
+
     <T> int insert(T obj);
 
     void batchInsert(Collection<?> objs);
 
+    <T> void batchInsert(Iterator<T> objs, Class<T> mappedClass);
+
     <T> int updateById(T obj, boolean skipBlank);
 
     void batchUpdate(Collection<?> objs, boolean skipBlank);
 
+    void bulkUpdate(Collection<?> objs, boolean skipBlank);
+
     <T> int insertOrUpdate(T obj);
 
     void batchInsertOrUpdate(Collection<?> objs);
@@ -45,4 +54,16 @@ public interface IBeanDao {
     <T> List<T> getBeans(T example, String... lastSql);
 
     <T> PageResult<T> getPage(T example, long pageNum, long pageSize, String... lastSql);
+
+    <T, R> List<R> getProjections(T example, Class<R> projection, String... lastSql);
+
+    <T, R> PageResult<R> getProjectionPage(T example, long pageNum, long pageSize, Class<R> projection, String... lastSql);
+
+    <T> void loadLazy(Collection<T> objs, String... properties);
+
+    <T> SliceResult<T> getSlice(T example, long pageNum, long pageSize, String... lastSql);
+
+    <T, ID> KeysetResult<T> getKeyset(T example, ID lastId, long pageSize);
+
+    <T> KeysetResult<T> getKeyset(T example, String keyProperty, Object lastKey, long pageSize);
 }
\ No newline at end of file
@@ -17,4 +17,6 @@ public interface IDaoContext extends INativeDao, ISqlDao, IBeanDao {
     DBType getDBType();
 
     Object idGenerator();
+
+    long nextSequence(String sequenceName);
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package io.github.shmilyjxs.core;
 
+import io.github.shmilyjxs.utils.KeysetResult;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
 import org.intellij.lang.annotations.Language;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface INativeDao {
 
@@ -29,4 +33,20 @@ public interface INativeDao {
     List<Map<String, Object>> selectList(@Language("SQL") final String sql, Object... args);
 
     PageResult<Map<String, Object>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args);
+
+    <T> SliceResult<T> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args);
+
+    SliceResult<Map<String, Object>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args);
+
+    <T> KeysetResult<T> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass, Object... args);
+
+    KeysetResult<Map<String, Object>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Object... args);
+
+    <T> Stream<T> streamBeans(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Object... args);
+
+    <T> void forEachBean(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Consumer<? super T> consumer, Object... args);
+
+    Stream<Map<String, Object>> streamList(@Language("SQL") final String sql, int fetchSize, Object... args);
+
+    void forEachMap(@Language("SQL") final String sql, int fetchSize, Consumer<? super Map<String, Object>> consumer, Object... args);
 }
\ No newline at end of file
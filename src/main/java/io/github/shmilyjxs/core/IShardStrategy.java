@@ -0,0 +1,6 @@
+package io.github.shmilyjxs.core;
+
+public interface IShardStrategy {
+
+    int shard(Object shardKey, int shards);
+}
\ No newline at end of file
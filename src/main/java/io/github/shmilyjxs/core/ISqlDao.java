@@ -1,10 +1,15 @@
 package io.github.shmilyjxs.core;
 
+import io.github.shmilyjxs.utils.KeysetResult;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import io.github.shmilyjxs.utils.TreeResult;
 
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public interface ISqlDao {
 
@@ -12,6 +17,14 @@ public interface ISqlDao {
 
     int batchInsert(String tableName, Collection<String> columns, Collection<Map<String, Object>> maps);
 
+    int batchInsert(String tableName, Collection<String> columns, Iterator<? extends Map<String, ?>> iterator);
+
+    int upsert(String tableName, Map<String, ?> columnMap, String idColumn);
+
+    int batchUpsert(String tableName, Collection<String> columns, String idColumn, Collection<Map<String, Object>> maps);
+
+    int bulkUpdate(String tableName, String idColumn, Collection<String> columns, Collection<Map<String, Object>> maps, boolean skipBlank);
+
     int update(String tableName, Map<String, ?> columnMap, String columnName);
 
     int update(String tableName, Map<String, ?> columnMap, Collection<String> columns);
@@ -32,12 +45,30 @@ public interface ISqlDao {
 
     <T> List<T> getBeans(String tableName, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql);
 
+    <T> T getBean(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass);
+
+    <T, C> List<T> getBeans(String tableName, Collection<String> columns, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql);
+
+    <T> List<T> getBeans(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql);
+
+    <T> PageResult<T> selectPage(String tableName, Collection<String> columns, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
+
     <T> PageResult<T> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
 
+    <T> SliceResult<T> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql);
+
+    <T> KeysetResult<T> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass);
+
+    <T> Stream<T> streamBeans(String tableName, Map<String, ?> columnMap, int fetchSize, Class<T> mappedClass, String... lastSql);
+
     <T, C> List<T> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql);
 
     <T, C> List<T> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql);
 
+    <T, C> TreeResult<T> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass);
+
+    <T, C> TreeResult<T> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass);
+
     <C> Map<String, Object> getMap(String tableName, String columnName, C columnValue);
 
     Map<String, Object> getMap(String tableName, Map<String, ?> columnMap);
@@ -46,9 +77,21 @@ public interface ISqlDao {
 
     List<Map<String, Object>> getList(String tableName, Map<String, ?> columnMap, String... lastSql);
 
+    List<Map<String, Object>> getList(String tableName, Collection<String> columns, Map<String, ?> columnMap, String... lastSql);
+
     PageResult<Map<String, Object>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql);
 
+    SliceResult<Map<String, Object>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql);
+
+    KeysetResult<Map<String, Object>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize);
+
+    Stream<Map<String, Object>> streamList(String tableName, Map<String, ?> columnMap, int fetchSize, String... lastSql);
+
     <C> List<Map<String, Object>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql);
 
     <C> List<Map<String, Object>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql);
+
+    <C> TreeResult<Map<String, Object>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth);
+
+    <C> TreeResult<Map<String, Object>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package io.github.shmilyjxs.core;
+
+public interface IWriteBehindBuffer {
+
+    IBeanDao getBeanDao();
+
+    <T> void insert(T obj);
+
+    <T> void updateById(T obj, boolean skipBlank);
+
+    void flush();
+
+    int size();
+
+    long getCoalesced();
+
+    long getFlushed();
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.shmilyjxs.core;
+
+public enum InStrategy {
+    AUTO,
+    OR_CHAIN,
+    ARRAY,
+    TEMP_TABLE,
+    CHUNKS
+}
\ No newline at end of file
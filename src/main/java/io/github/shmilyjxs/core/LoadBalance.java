@@ -0,0 +1,6 @@
+package io.github.shmilyjxs.core;
+
+public enum LoadBalance {
+    ROUND_ROBIN,
+    LEAST_OUTSTANDING
+}
\ No newline at end of file
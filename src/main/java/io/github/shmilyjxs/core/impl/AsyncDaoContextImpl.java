@@ -0,0 +1,555 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.core.IAsyncDaoContext;
+import io.github.shmilyjxs.core.IDaoContext;
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import io.github.shmilyjxs.utils.TreeResult;
+import org.apache.commons.lang3.tuple.Triple;
+import org.intellij.lang.annotations.Language;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ReflectionUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class AsyncDaoContextImpl implements IAsyncDaoContext, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncDaoContextImpl.class);
+
+    private static final int DEFAULT_CONCURRENCY = 10;
+
+    private static final List<String> POOL_SIZE_METHODS = Arrays.asList("getMaximumPoolSize", "getMaxTotal", "getMaxActive", "getMaxPoolSize");
+
+    private final IDaoContext daoContext;
+    private final Executor executor;
+    private final Semaphore semaphore;
+    private final boolean ownsExecutor;
+
+    public AsyncDaoContextImpl(IDaoContext daoContext) {
+        this(daoContext, null, poolSize(daoContext.getDataSource()));
+    }
+
+    public AsyncDaoContextImpl(IDaoContext daoContext, Executor executor) {
+        this(daoContext, executor, poolSize(daoContext.getDataSource()));
+    }
+
+    public AsyncDaoContextImpl(IDaoContext daoContext, Executor executor, int maxConcurrency) {
+        this.daoContext = Objects.requireNonNull(daoContext);
+        this.semaphore = new Semaphore(Math.max(1, maxConcurrency));
+        this.ownsExecutor = Objects.isNull(executor);
+        this.executor = Optional.ofNullable(executor).orElseGet(() -> defaultExecutor(Math.max(1, maxConcurrency)));
+    }
+
+    private static ExecutorService defaultExecutor(int maxConcurrency) {
+        Method method = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+        if (Objects.nonNull(method)) {
+            return (ExecutorService) ReflectionUtils.invokeMethod(method, null);
+        }
+        ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        return Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        for (String methodName : POOL_SIZE_METHODS) {
+            Method method = ReflectionUtils.findMethod(dataSource.getClass(), methodName);
+            if (Objects.nonNull(method) && method.getParameterCount() == 0) {
+                try {
+                    Object value = method.invoke(dataSource);
+                    if (value instanceof Number && ((Number) value).intValue() > 0) {
+                        return ((Number) value).intValue();
+                    }
+                } catch (Exception e) {
+                    logger.warn("pool size lookup {} failed", methodName, e);
+                }
+            }
+        }
+        return DEFAULT_CONCURRENCY;
+    }
+
+    @Override
+    public IDaoContext getDaoContext() {
+        return daoContext;
+    }
+
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> submit(Function<? super IDaoContext, ? extends R> function) {
+        Objects.requireNonNull(function);
+        return CompletableFuture.supplyAsync(() -> {
+            semaphore.acquireUninterruptibly();
+            try {
+                return function.apply(daoContext);
+            } finally {
+                semaphore.release();
+            }
+        }, executor);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> scalar(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.scalar(sql, mappedClass, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> scalarList(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.scalarList(sql, mappedClass, args));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(@Language("SQL") final String sql, Object... args) {
+        return submit(dao -> dao.count(sql, args));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> exists(@Language("SQL") final String sql, Object... args) {
+        return submit(dao -> dao.exists(sql, args));
+    }
+
+    @Override
+    public CompletableFuture<Integer> nativeUpdate(@Language("SQL") final String sql, Object... args) {
+        return submit(dao -> dao.nativeUpdate(sql, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> selectBean(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.selectBean(sql, mappedClass, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> selectBeans(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.selectBeans(sql, mappedClass, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<PageResult<T>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.selectPage(sql, pageNum, pageSize, mappedClass, args));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> selectMap(@Language("SQL") final String sql, Object... args) {
+        return submit(dao -> dao.selectMap(sql, args));
+    }
+
+    @Override
+    public CompletableFuture<List<Map<String, Object>>> selectList(@Language("SQL") final String sql, Object... args) {
+        return submit(dao -> dao.selectList(sql, args));
+    }
+
+    @Override
+    public CompletableFuture<PageResult<Map<String, Object>>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
+        return submit(dao -> dao.selectPage(sql, pageNum, pageSize, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<SliceResult<T>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.selectSlice(sql, pageNum, pageSize, mappedClass, args));
+    }
+
+    @Override
+    public CompletableFuture<SliceResult<Map<String, Object>>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
+        return submit(dao -> dao.selectSlice(sql, pageNum, pageSize, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<KeysetResult<T>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass, Object... args) {
+        return submit(dao -> dao.selectKeyset(sql, keyColumn, lastKey, pageSize, mappedClass, args));
+    }
+
+    @Override
+    public CompletableFuture<KeysetResult<Map<String, Object>>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Object... args) {
+        return submit(dao -> dao.selectKeyset(sql, keyColumn, lastKey, pageSize, args));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> forEachBean(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Consumer<? super T> consumer, Object... args) {
+        return submit(dao -> {
+            dao.forEachBean(sql, fetchSize, mappedClass, consumer, args);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> forEachMap(@Language("SQL") final String sql, int fetchSize, Consumer<? super Map<String, Object>> consumer, Object... args) {
+        return submit(dao -> {
+            dao.forEachMap(sql, fetchSize, consumer, args);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> insert(String tableName, Map<String, ?> columnMap) {
+        return submit(dao -> dao.insert(tableName, columnMap));
+    }
+
+    @Override
+    public CompletableFuture<Integer> batchInsert(String tableName, Collection<String> columns, Collection<Map<String, Object>> maps) {
+        return submit(dao -> dao.batchInsert(tableName, columns, maps));
+    }
+
+    @Override
+    public CompletableFuture<Integer> batchInsert(String tableName, Collection<String> columns, Iterator<? extends Map<String, ?>> iterator) {
+        return submit(dao -> dao.batchInsert(tableName, columns, iterator));
+    }
+
+    @Override
+    public CompletableFuture<Integer> upsert(String tableName, Map<String, ?> columnMap, String idColumn) {
+        return submit(dao -> dao.upsert(tableName, columnMap, idColumn));
+    }
+
+    @Override
+    public CompletableFuture<Integer> batchUpsert(String tableName, Collection<String> columns, String idColumn, Collection<Map<String, Object>> maps) {
+        return submit(dao -> dao.batchUpsert(tableName, columns, idColumn, maps));
+    }
+
+    @Override
+    public CompletableFuture<Integer> bulkUpdate(String tableName, String idColumn, Collection<String> columns, Collection<Map<String, Object>> maps, boolean skipBlank) {
+        return submit(dao -> dao.bulkUpdate(tableName, idColumn, columns, maps, skipBlank));
+    }
+
+    @Override
+    public CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, String columnName) {
+        return submit(dao -> dao.update(tableName, columnMap, columnName));
+    }
+
+    @Override
+    public CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, Collection<String> columns) {
+        return submit(dao -> dao.update(tableName, columnMap, columns));
+    }
+
+    @Override
+    public CompletableFuture<Integer> update(String tableName, Map<String, ?> columnMap, Map<String, ?> whereMap) {
+        return submit(dao -> dao.update(tableName, columnMap, whereMap));
+    }
+
+    @Override
+    public <C> CompletableFuture<Integer> delete(String tableName, String columnName, C columnValue) {
+        return submit(dao -> dao.delete(tableName, columnName, columnValue));
+    }
+
+    @Override
+    public CompletableFuture<Integer> delete(String tableName, Map<String, ?> columnMap) {
+        return submit(dao -> dao.delete(tableName, columnMap));
+    }
+
+    @Override
+    public <C> CompletableFuture<Integer> batchDelete(String tableName, String columnName, Collection<C> columnValues) {
+        return submit(dao -> dao.batchDelete(tableName, columnName, columnValues));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<T> getBean(String tableName, String columnName, C columnValue, Class<T> mappedClass) {
+        return submit(dao -> dao.getBean(tableName, columnName, columnValue, mappedClass));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getBean(String tableName, Map<String, ?> columnMap, Class<T> mappedClass) {
+        return submit(dao -> dao.getBean(tableName, columnMap, mappedClass));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<List<T>> getBeans(String tableName, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.getBeans(tableName, columnName, columnValues, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> getBeans(String tableName, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.getBeans(tableName, columnMap, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getBean(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass) {
+        return submit(dao -> dao.getBean(tableName, columns, columnMap, mappedClass));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<List<T>> getBeans(String tableName, Collection<String> columns, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.getBeans(tableName, columns, columnName, columnValues, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> getBeans(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.getBeans(tableName, columns, columnMap, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<PageResult<T>> selectPage(String tableName, Collection<String> columns, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.selectPage(tableName, columns, columnMap, pageNum, pageSize, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<PageResult<T>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.selectPage(tableName, columnMap, pageNum, pageSize, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<SliceResult<T>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.selectSlice(tableName, columnMap, pageNum, pageSize, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<KeysetResult<T>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass) {
+        return submit(dao -> dao.selectKeyset(tableName, columnMap, keyColumn, lastKey, pageSize, mappedClass));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<List<T>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.downRecursiveSql(tableName, startColumn, columnValue, joinColumn, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<List<T>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.upRecursiveSql(tableName, startColumn, columnValue, joinColumn, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<TreeResult<T>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        return submit(dao -> dao.downTree(tableName, startColumn, columnValue, joinColumn, maxDepth, mappedClass));
+    }
+
+    @Override
+    public <T, C> CompletableFuture<TreeResult<T>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        return submit(dao -> dao.upTree(tableName, startColumn, columnValue, joinColumn, maxDepth, mappedClass));
+    }
+
+    @Override
+    public <C> CompletableFuture<Map<String, Object>> getMap(String tableName, String columnName, C columnValue) {
+        return submit(dao -> dao.getMap(tableName, columnName, columnValue));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Object>> getMap(String tableName, Map<String, ?> columnMap) {
+        return submit(dao -> dao.getMap(tableName, columnMap));
+    }
+
+    @Override
+    public <C> CompletableFuture<List<Map<String, Object>>> getList(String tableName, String columnName, Collection<C> columnValues, String... lastSql) {
+        return submit(dao -> dao.getList(tableName, columnName, columnValues, lastSql));
+    }
+
+    @Override
+    public CompletableFuture<List<Map<String, Object>>> getList(String tableName, Map<String, ?> columnMap, String... lastSql) {
+        return submit(dao -> dao.getList(tableName, columnMap, lastSql));
+    }
+
+    @Override
+    public CompletableFuture<List<Map<String, Object>>> getList(String tableName, Collection<String> columns, Map<String, ?> columnMap, String... lastSql) {
+        return submit(dao -> dao.getList(tableName, columns, columnMap, lastSql));
+    }
+
+    @Override
+    public CompletableFuture<PageResult<Map<String, Object>>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql) {
+        return submit(dao -> dao.selectPage(tableName, columnMap, pageNum, pageSize, lastSql));
+    }
+
+    @Override
+    public CompletableFuture<SliceResult<Map<String, Object>>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql) {
+        return submit(dao -> dao.selectSlice(tableName, columnMap, pageNum, pageSize, lastSql));
+    }
+
+    @Override
+    public CompletableFuture<KeysetResult<Map<String, Object>>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize) {
+        return submit(dao -> dao.selectKeyset(tableName, columnMap, keyColumn, lastKey, pageSize));
+    }
+
+    @Override
+    public <C> CompletableFuture<List<Map<String, Object>>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
+        return submit(dao -> dao.downRecursiveSql(tableName, startColumn, columnValue, joinColumn, lastSql));
+    }
+
+    @Override
+    public <C> CompletableFuture<List<Map<String, Object>>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
+        return submit(dao -> dao.upRecursiveSql(tableName, startColumn, columnValue, joinColumn, lastSql));
+    }
+
+    @Override
+    public <C> CompletableFuture<TreeResult<Map<String, Object>>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        return submit(dao -> dao.downTree(tableName, startColumn, columnValue, joinColumn, maxDepth));
+    }
+
+    @Override
+    public <C> CompletableFuture<TreeResult<Map<String, Object>>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        return submit(dao -> dao.upTree(tableName, startColumn, columnValue, joinColumn, maxDepth));
+    }
+
+    @Override
+    public <T> CompletableFuture<Triple<String, Map.Entry<Field, String>, Map<String, String>>> getTableInfo(T obj) {
+        return submit(dao -> dao.getTableInfo(obj));
+    }
+
+    @Override
+    public <T> CompletableFuture<Triple<String, Map.Entry<Field, String>, Map<String, String>>> getTableInfo(Class<T> clazz) {
+        return submit(dao -> dao.getTableInfo(clazz));
+    }
+
+    @Override
+    public CompletableFuture<Void> preload(Collection<Class<?>> classes) {
+        return submit(dao -> {
+            dao.preload(classes);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> insert(T obj) {
+        return submit(dao -> dao.insert(obj));
+    }
+
+    @Override
+    public CompletableFuture<Void> batchInsert(Collection<?> objs) {
+        return submit(dao -> {
+            dao.batchInsert(objs);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> batchInsert(Iterator<T> objs, Class<T> mappedClass) {
+        return submit(dao -> {
+            dao.batchInsert(objs, mappedClass);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> updateById(T obj, boolean skipBlank) {
+        return submit(dao -> dao.updateById(obj, skipBlank));
+    }
+
+    @Override
+    public CompletableFuture<Void> batchUpdate(Collection<?> objs, boolean skipBlank) {
+        return submit(dao -> {
+            dao.batchUpdate(objs, skipBlank);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> bulkUpdate(Collection<?> objs, boolean skipBlank) {
+        return submit(dao -> {
+            dao.bulkUpdate(objs, skipBlank);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> insertOrUpdate(T obj) {
+        return submit(dao -> dao.insertOrUpdate(obj));
+    }
+
+    @Override
+    public CompletableFuture<Void> batchInsertOrUpdate(Collection<?> objs) {
+        return submit(dao -> {
+            dao.batchInsertOrUpdate(objs);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> deleteById(T obj) {
+        return submit(dao -> dao.deleteById(obj));
+    }
+
+    @Override
+    public CompletableFuture<Void> batchDelete(Collection<?> objs) {
+        return submit(dao -> {
+            dao.batchDelete(objs);
+            return null;
+        });
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<Integer> delete(ID idValue, Class<T> mappedClass) {
+        return submit(dao -> dao.delete(idValue, mappedClass));
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<Integer> batchDelete(Collection<ID> idValues, Class<T> mappedClass) {
+        return submit(dao -> dao.batchDelete(idValues, mappedClass));
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<T> getBean(ID idValue, Class<T> mappedClass) {
+        return submit(dao -> dao.getBean(idValue, mappedClass));
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<List<T>> getBeans(Collection<ID> idValues, Class<T> mappedClass, String... lastSql) {
+        return submit(dao -> dao.getBeans(idValues, mappedClass, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<Integer> delete(T example) {
+        return submit(dao -> dao.delete(example));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getBean(T example) {
+        return submit(dao -> dao.getBean(example));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> getBeans(T example, String... lastSql) {
+        return submit(dao -> dao.getBeans(example, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<PageResult<T>> getPage(T example, long pageNum, long pageSize, String... lastSql) {
+        return submit(dao -> dao.getPage(example, pageNum, pageSize, lastSql));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<List<R>> getProjections(T example, Class<R> projection, String... lastSql) {
+        return submit(dao -> dao.getProjections(example, projection, lastSql));
+    }
+
+    @Override
+    public <T, R> CompletableFuture<PageResult<R>> getProjectionPage(T example, long pageNum, long pageSize, Class<R> projection, String... lastSql) {
+        return submit(dao -> dao.getProjectionPage(example, pageNum, pageSize, projection, lastSql));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> loadLazy(Collection<T> objs, String... properties) {
+        return submit(dao -> {
+            dao.loadLazy(objs, properties);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<SliceResult<T>> getSlice(T example, long pageNum, long pageSize, String... lastSql) {
+        return submit(dao -> dao.getSlice(example, pageNum, pageSize, lastSql));
+    }
+
+    @Override
+    public <T, ID> CompletableFuture<KeysetResult<T>> getKeyset(T example, ID lastId, long pageSize) {
+        return submit(dao -> dao.getKeyset(example, lastId, pageSize));
+    }
+
+    @Override
+    public <T> CompletableFuture<KeysetResult<T>> getKeyset(T example, String keyProperty, Object lastKey, long pageSize) {
+        return submit(dao -> dao.getKeyset(example, keyProperty, lastKey, pageSize));
+    }
+}
\ No newline at end of file
@@ -1,47 +1,390 @@
 package io.github.shmilyjxs.core.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import io.github.shmilyjxs.generator.IIdGenerator;
+import io.github.shmilyjxs.generator.PooledSequenceGenerator;
+import io.github.shmilyjxs.generator.UUIDGenerator;
+import io.github.shmilyjxs.generator.UUIDv7Generator;
+import io.github.shmilyjxs.utils.BatchLoader;
+import io.github.shmilyjxs.utils.BeanExtractor;
+import io.github.shmilyjxs.utils.BeanMapper;
 import io.github.shmilyjxs.utils.BeanUtil;
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.LazyInitializer;
+import io.github.shmilyjxs.utils.LoadState;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Triple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.ReflectionUtils;
 
+import javax.persistence.Basic;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public abstract class BaseBeanDao extends BaseSqlDao {
 
     private static final Logger logger = LoggerFactory.getLogger(BaseBeanDao.class);
 
-    private static final Map<Class<?>, Triple<String, Map.Entry<Field, String>, Map<String, String>>> CLASS_CACHE = new ConcurrentHashMap<>();
+    private static final int PRELOAD_SIZE = 1000;
 
-    private static <T> Map<String, Object> buildMap(T obj, Map<String, String> convertMap) {
-        return buildMap(obj, convertMap, true);
+    private final Map<Class<?>, LazyInitializer<Triple<String, Map.Entry<Field, String>, Map<String, String>>>> classCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, BeanMapper<?>> mapperCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, BeanExtractor<?>> extractorCache = new ConcurrentHashMap<>();
+
+    private final Map<Map.Entry<Class<?>, BitSet>, String> updateSqlCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Map<String, String>> lazyCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, Cache<Object, Object>> beanCache = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AtomicLongArray> cacheStamps = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, BatchLoader<Object, Object>> loaders = new ConcurrentHashMap<>();
+
+    private final Map<String, IIdGenerator> generators = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, IIdGenerator> generatorCache = new ConcurrentHashMap<>();
+
+    protected BaseBeanDao() {
+        generators.put("uuid", new UUIDGenerator());
+        generators.put("uuid7", new UUIDv7Generator());
+    }
+
+    public void registerGenerator(String name, IIdGenerator generator) {
+        generators.put(Objects.requireNonNull(name), Objects.requireNonNull(generator));
+        generatorCache.clear();
+    }
+
+    protected Object idGenerator(Class<?> clazz) {
+        Field idField = getTableInfo(clazz).getMiddle().getKey();
+        Object idValue = generatorCache.computeIfAbsent(clazz, this::resolveGenerator).nextId();
+        if (Objects.isNull(idValue) || ClassUtils.isAssignableValue(idField.getType(), idValue)) {
+            return idValue;
+        }
+        return DefaultConversionService.getSharedInstance().convert(idValue, idField.getType());
+    }
+
+    private IIdGenerator resolveGenerator(Class<?> clazz) {
+        Field idField = BeanUtil.idFiled(clazz);
+        Method readMethod = Optional.ofNullable(BeanUtils.getPropertyDescriptor(clazz, idField.getName())).map(PropertyDescriptor::getReadMethod).orElse(null);
+        String name = Optional.ofNullable(AnnotationUtils.findAnnotation(idField, GeneratedValue.class))
+                .map(Optional::of)
+                .orElseGet(() -> Optional.ofNullable(readMethod).map(e -> AnnotationUtils.findAnnotation(e, GeneratedValue.class)))
+                .map(GeneratedValue::generator)
+                .filter(StringUtils::isNotBlank)
+                .orElse(null);
+        if (Objects.isNull(name)) {
+            return this::idGenerator;
+        }
+        IIdGenerator generator = generators.get(name);
+        if (Objects.nonNull(generator)) {
+            return generator;
+        }
+        return Stream.of(AnnotationUtils.findAnnotation(clazz, SequenceGenerator.class), AnnotationUtils.findAnnotation(idField, SequenceGenerator.class))
+                .filter(Objects::nonNull)
+                .filter(e -> name.equals(e.name()))
+                .findAny()
+                .map(e -> generators.computeIfAbsent(name, key -> new PooledSequenceGenerator(this, StringUtils.defaultIfBlank(e.sequenceName(), key), e.allocationSize())))
+                .orElseThrow(() -> new IllegalArgumentException("unknown id generator " + name + " on " + clazz.getName()));
+    }
+
+    public void enableCache(Class<?> clazz, long maximumSize, long expireSeconds) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (expireSeconds > 0L) {
+            builder.expireAfterWrite(expireSeconds, TimeUnit.SECONDS);
+        }
+        cacheStamps.put(clazz, new AtomicLongArray(64));
+        beanCache.put(clazz, builder.build());
+    }
+
+    public void disableCache(Class<?> clazz) {
+        Optional.ofNullable(beanCache.remove(clazz)).ifPresent(Cache::invalidateAll);
+        cacheStamps.remove(clazz);
+    }
+
+    public void invalidateCache(Class<?> clazz) {
+        Optional.ofNullable(beanCache.get(clazz)).ifPresent(cache -> afterCommit(() -> {
+            Optional.ofNullable(cacheStamps.get(clazz)).ifPresent(stamps -> IntStream.range(0, stamps.length()).forEach(stamps::incrementAndGet));
+            cache.invalidateAll();
+        }));
+    }
+
+    public void enableBatchLoading(Class<?> clazz, int maxBatchSize, long windowMillis) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(clazz);
+        Field idField = tableInfo.getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        loaders.put(clazz, new BatchLoader<>(keys -> getBeans(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), keys, clazz).stream().collect(Collectors.toMap(e -> cacheKey(idField, ReflectionUtils.getField(idField, e)), e -> e, (left, right) -> left)), maxBatchSize, windowMillis));
+    }
+
+    public void disableBatchLoading(Class<?> clazz) {
+        loaders.remove(clazz);
+    }
+
+    public BatchLoader<Object, Object> getBatchLoader(Class<?> clazz) {
+        return loaders.get(clazz);
+    }
+
+    public CacheStats getCacheStats(Class<?> clazz) {
+        return Optional.ofNullable(beanCache.get(clazz)).map(Cache::stats).orElseGet(() -> new CacheStats(0L, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    private static Object cacheKey(Field idField, Object idValue) {
+        if (Objects.isNull(idValue) || ClassUtils.isAssignableValue(idField.getType(), idValue)) {
+            return idValue;
+        }
+        return DefaultConversionService.getSharedInstance().convert(idValue, idField.getType());
+    }
+
+    private long stamp(Class<?> clazz, Object key) {
+        return Optional.ofNullable(cacheStamps.get(clazz)).map(stamps -> stamps.get((key.hashCode() & Integer.MAX_VALUE) % stamps.length())).orElse(0L);
+    }
+
+    private void bump(Class<?> clazz, Object key) {
+        Optional.ofNullable(cacheStamps.get(clazz)).ifPresent(stamps -> stamps.incrementAndGet((key.hashCode() & Integer.MAX_VALUE) % stamps.length()));
+    }
+
+    private void cachePut(Class<?> clazz, Cache<Object, Object> cache, Object key, long stamp, Object value) {
+        cache.put(key, value);
+        if (stamp(clazz, key) != stamp) {
+            cache.asMap().remove(key, value);
+        }
+    }
+
+    private static <T> T copyBean(T obj) {
+        T copy = (T) BeanUtils.instantiateClass(obj.getClass());
+        BeanUtils.copyProperties(obj, copy);
+        LoadState.copy(obj, copy);
+        return copy;
     }
 
-    private static <T> Map<String, Object> buildMap(T obj, Map<String, String> convertMap, boolean skipBlank) {
-        Map<String, Object> beanMap = BeanUtil.beanToMap(obj);
-        if (skipBlank) {
-            beanMap = BeanUtil.skipBlank(beanMap);
+    private static void afterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
         }
-        Map<String, Object> map = new LinkedCaseInsensitiveMap<>();
-        for (Map.Entry<String, String> entry : convertMap.entrySet()) {
-            if (beanMap.containsKey(entry.getKey())) {
-                map.put(entry.getValue(), beanMap.get(entry.getKey()));
+    }
+
+    private static boolean inTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void evictAll(Class<?> clazz, Field idField, Collection<?> idValues) {
+        Optional.ofNullable(beanCache.get(clazz)).ifPresent(cache -> {
+            List<Object> keys = idValues.stream().map(e -> cacheKey(idField, e)).filter(Objects::nonNull).collect(Collectors.toList());
+            if (!keys.isEmpty()) {
+                afterCommit(() -> {
+                    keys.forEach(key -> bump(clazz, key));
+                    cache.invalidateAll(keys);
+                });
+            }
+        });
+    }
+
+    private void evict(Class<?> clazz, Field idField, Object idValue) {
+        evictAll(clazz, idField, Collections.singletonList(idValue));
+    }
+
+    private void evict(Object obj, Field idField) {
+        if (beanCache.containsKey(obj.getClass())) {
+            ReflectionUtils.makeAccessible(idField);
+            evict(obj.getClass(), idField, ReflectionUtils.getField(idField, obj));
+        }
+    }
+
+    private void evict(Class<?> clazz, Collection<?> objs) {
+        if (beanCache.containsKey(clazz)) {
+            Field idField = getTableInfo(clazz).getMiddle().getKey();
+            ReflectionUtils.makeAccessible(idField);
+            evictAll(clazz, idField, objs.stream().map(e -> ReflectionUtils.getField(idField, e)).collect(Collectors.toList()));
+        }
+    }
+
+    private <T> Map<String, Object> buildMap(T obj, Map<String, String> convertMap) {
+        return buildMap(obj, convertMap, true);
+    }
+
+    private <T> Map<String, Object> buildMap(T obj, Map<String, String> convertMap, boolean skipBlank) {
+        Map<String, Object> map = getExtractor(obj.getClass(), convertMap).toMap(obj, skipBlank);
+        if (!skipBlank) {
+            Collection<String> unloadedColumns = unloadedColumns(obj);
+            if (!unloadedColumns.isEmpty()) {
+                map.entrySet().removeIf(e -> Objects.isNull(e.getValue()) && unloadedColumns.contains(e.getKey()));
             }
         }
         return map;
     }
 
+    private Collection<String> unloadedColumns(Object obj) {
+        Set<String> unloaded = LoadState.getUnloaded(obj);
+        if (unloaded.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Map<String, String> lazyMap = getLazyMap(obj.getClass());
+        return unloaded.stream().map(lazyMap::get).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static Set<String> missingProperties(ResultSet rs, Map<String, String> lazyMap) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Set<String> labels = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (int index = 1; index <= metaData.getColumnCount(); index++) {
+            String label = JdbcUtils.lookupColumnName(metaData, index);
+            labels.add(label);
+            labels.add(JdbcUtils.convertUnderscoreNameToPropertyName(label));
+        }
+        return lazyMap.entrySet().stream().filter(e -> !labels.contains(e.getKey()) && !labels.contains(e.getValue())).map(Map.Entry::getKey).collect(Collectors.toSet());
+    }
+
+    private static List<List<String>> columnGroups(List<Map<String, Object>> maps) {
+        return maps.stream().map(e -> new ArrayList<>(e.keySet())).distinct().collect(Collectors.toList());
+    }
+
+    private static boolean isLazy(AnnotatedElement element) {
+        return Objects.nonNull(AnnotationUtils.findAnnotation(element, Lob.class))
+                || Optional.ofNullable(AnnotationUtils.findAnnotation(element, Basic.class)).map(Basic::fetch).filter(FetchType.LAZY::equals).isPresent();
+    }
+
+    private Map<String, String> getLazyMap(Class<?> clazz) {
+        return lazyCache.computeIfAbsent(clazz, key -> {
+            Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
+            Map<String, String> lazyMap = new LinkedHashMap<>();
+            tableInfo.getRight().forEach((property, column) -> {
+                if (!property.equals(tableInfo.getMiddle().getKey().getName())) {
+                    Field field = ReflectionUtils.findField(key, property);
+                    Method readMethod = Optional.ofNullable(BeanUtils.getPropertyDescriptor(key, property)).map(PropertyDescriptor::getReadMethod).orElse(null);
+                    if (Stream.<AnnotatedElement>of(field, readMethod).filter(Objects::nonNull).anyMatch(BaseBeanDao::isLazy)) {
+                        lazyMap.put(property, column);
+                    }
+                }
+            });
+            return Collections.unmodifiableMap(lazyMap);
+        });
+    }
+
+    private BeanExtractor<?> getExtractor(Class<?> clazz, Map<String, String> convertMap) {
+        BeanExtractor<?> extractor = extractorCache.get(clazz);
+        if (Objects.isNull(extractor)) {
+            extractor = new BeanExtractor<>(clazz, convertMap);
+            extractorCache.putIfAbsent(clazz, extractor);
+        }
+        return extractor;
+    }
+
+    private static Triple<String, Map.Entry<Field, String>, Map<String, String>> buildTableInfo(Class<?> clazz, String tableName, List<String> columnList) {
+        Field idFiled = BeanUtil.idFiled(clazz);
+        Map<String, String> map = new LinkedCaseInsensitiveMap<>();
+        columnList.forEach(e -> map.put(e, e));
+        columnList.forEach(e -> map.putIfAbsent(JdbcUtils.convertUnderscoreNameToPropertyName(e), e));
+        columnList.forEach(e -> map.putIfAbsent(BeanUtil.dbToJava(e), e));
+
+        Map.Entry<Field, String> entry = new AbstractMap.SimpleImmutableEntry<>(idFiled, Objects.requireNonNull(map.get(idFiled.getName())));
+        Map<String, String> convertMap = new LinkedHashMap<>();
+        Arrays.stream(BeanUtils.getPropertyDescriptors(clazz))
+                .map(PropertyDescriptor::getName)
+                .filter(map::containsKey)
+                .map(e -> new AbstractMap.SimpleImmutableEntry<>(e, map.get(e)))
+                .sorted(Comparator.comparingInt(e -> columnList.indexOf(e.getValue())))
+                .forEach(e -> convertMap.put(e.getKey(), e.getValue()));
+        if (logger.isDebugEnabled()) {
+            logger.debug("class {} ===>>> table {}", clazz.getName(), tableName);
+            logger.debug("id {} ===>>> column {}", idFiled.getName(), entry.getValue());
+            convertMap.forEach((key, val) -> logger.debug("property {} ===>>> column {}", key, val));
+        }
+        return Triple.of(tableName, entry, Collections.unmodifiableMap(convertMap));
+    }
+
+    @Override
+    protected <T> RowMapper<T> getRowMapper(Class<T> mappedClass) {
+        BeanMapper<T> beanMapper = (BeanMapper<T>) mapperCache.get(mappedClass);
+        if (Objects.isNull(beanMapper)) {
+            if (Objects.isNull(AnnotationUtils.findAnnotation(mappedClass, Table.class))) {
+                beanMapper = BeanMapper.of(mappedClass);
+            } else {
+                beanMapper = new BeanMapper<>(mappedClass, getTableInfo(mappedClass).getRight());
+            }
+            mapperCache.putIfAbsent(mappedClass, beanMapper);
+        }
+        RowMapper<T> rowMapper = beanMapper.rowMapper();
+        Map<String, String> lazyMap = Objects.isNull(AnnotationUtils.findAnnotation(mappedClass, Table.class)) ? Collections.emptyMap() : getLazyMap(mappedClass);
+        if (lazyMap.isEmpty()) {
+            return rowMapper;
+        }
+        AtomicReference<Map.Entry<ResultSet, Set<String>>> missing = new AtomicReference<>();
+        return (rs, rowNum) -> {
+            T bean = rowMapper.mapRow(rs, rowNum);
+            Map.Entry<ResultSet, Set<String>> entry = missing.get();
+            if (Objects.isNull(entry) || entry.getKey() != rs) {
+                entry = new AbstractMap.SimpleImmutableEntry<>(rs, missingProperties(rs, lazyMap));
+                missing.set(entry);
+            }
+            LoadState.markUnloaded(bean, entry.getValue());
+            return bean;
+        };
+    }
+
+    @Override
+    protected List<String> selectColumns(String tableName, Class<?> mappedClass) {
+        if (Objects.isNull(AnnotationUtils.findAnnotation(mappedClass, Table.class)) || !BeanUtil.getTableName(mappedClass).equalsIgnoreCase(tableName)) {
+            return Collections.emptyList();
+        }
+        Collection<String> lazyColumns = getLazyMap(mappedClass).values();
+        return getTableInfo(mappedClass).getRight().values().stream().filter(e -> !lazyColumns.contains(e)).collect(Collectors.toList());
+    }
+
+    private static List<String> projectionColumns(Map<String, String> convertMap, Class<?> projection) {
+        return Arrays.stream(BeanUtils.getPropertyDescriptors(projection))
+                .filter(e -> Objects.nonNull(e.getWriteMethod()))
+                .map(PropertyDescriptor::getName)
+                .filter(convertMap::containsKey)
+                .map(e -> {
+                    String column = convertMap.get(e);
+                    return column.equalsIgnoreCase(e) || column.equalsIgnoreCase(BeanUtil.javaToDb(e)) ? column : column + " AS " + e;
+                })
+                .collect(Collectors.toList());
+    }
+
     @Override
     public <T> Triple<String, Map.Entry<Field, String>, Map<String, String>> getTableInfo(T obj) {
         return Optional.of(obj).map(T::getClass).map(this::getTableInfo).get();
@@ -49,38 +392,25 @@ public abstract class BaseBeanDao extends BaseSqlDao {
 
     @Override
     public <T> Triple<String, Map.Entry<Field, String>, Map<String, String>> getTableInfo(Class<T> clazz) {
-        Triple<String, Map.Entry<Field, String>, Map<String, String>> triple = CLASS_CACHE.get(clazz);
-        if (Objects.isNull(triple)) {
-            synchronized (this) {
-                triple = CLASS_CACHE.get(clazz);
-                if (Objects.isNull(triple)) {
-                    String tableName = BeanUtil.getTableName(clazz);
-                    Field idFiled = BeanUtil.idFiled(clazz);
-
-                    String sql = getDBType().getDialect().columnSql(tableName);
-                    List<String> columnList = scalarList(sql, String.class);
-                    Map<String, String> map = new LinkedCaseInsensitiveMap<>();
-                    columnList.forEach(e -> map.put(e, e));
-                    columnList.forEach(e -> map.putIfAbsent(JdbcUtils.convertUnderscoreNameToPropertyName(e), e));
-                    columnList.forEach(e -> map.putIfAbsent(BeanUtil.dbToJava(e), e));
-
-                    Map.Entry<Field, String> entry = new AbstractMap.SimpleImmutableEntry<>(idFiled, Objects.requireNonNull(map.get(idFiled.getName())));
-                    Map<String, String> convertMap = new LinkedHashMap<>();
-                    Arrays.stream(BeanUtils.getPropertyDescriptors(clazz))
-                            .map(PropertyDescriptor::getName)
-                            .filter(map::containsKey)
-                            .map(e -> new AbstractMap.SimpleImmutableEntry<>(e, map.get(e)))
-                            .sorted(Comparator.comparingInt(e -> columnList.indexOf(e.getValue())))
-                            .forEach(e -> convertMap.put(e.getKey(), e.getValue()));
-                    triple = Triple.of(tableName, entry, Collections.unmodifiableMap(convertMap));
-                    CLASS_CACHE.put(clazz, triple);
-                }
-            }
+        return classCache.computeIfAbsent(clazz, key -> LazyInitializer.of(() -> {
+            String tableName = BeanUtil.getTableName(key);
+            String sql = getDBType().getDialect().columnSql(tableName);
+            return buildTableInfo(key, tableName, scalarList(sql, String.class));
+        })).get();
+    }
+
+    @Override
+    public void preload(Collection<Class<?>> classes) {
+        Map<String, List<Class<?>>> tableGroup = new LinkedCaseInsensitiveMap<>();
+        classes.stream().filter(Objects::nonNull).filter(e -> !classCache.containsKey(e)).distinct().forEach(e -> tableGroup.computeIfAbsent(BeanUtil.getTableName(e), key -> new ArrayList<>()).add(e));
+        for (List<String> tableNames : Lists.partition(new ArrayList<>(tableGroup.keySet()), PRELOAD_SIZE)) {
+            Map<String, List<String>> columnGroup = new LinkedCaseInsensitiveMap<>();
+            selectList(getDBType().getDialect().columnsSql(tableNames)).forEach(e -> columnGroup.computeIfAbsent(String.valueOf(e.get("TABLE_NAME")), key -> new ArrayList<>()).add(String.valueOf(e.get("COLUMN_NAME"))));
+            tableNames.stream().filter(columnGroup::containsKey).forEach(tableName -> tableGroup.get(tableName).forEach(clazz -> {
+                Triple<String, Map.Entry<Field, String>, Map<String, String>> triple = buildTableInfo(clazz, tableName, columnGroup.get(tableName));
+                classCache.putIfAbsent(clazz, LazyInitializer.of(() -> triple));
+            }));
         }
-        logger.info("class {} ===>>> table {}", clazz.getName(), triple.getLeft());
-        logger.info("id {} ===>>> column {}", triple.getMiddle().getKey().getName(), triple.getMiddle().getValue());
-        triple.getRight().forEach((key, val) -> logger.info("property {} ===>>> column {}", key, val));
-        return triple;
     }
 
     @Override
@@ -90,34 +420,46 @@ public abstract class BaseBeanDao extends BaseSqlDao {
         ReflectionUtils.makeAccessible(idField);
         Object idValue = ReflectionUtils.getField(idField, obj);
         if (ObjectUtils.isEmpty(idValue)) {
-            ReflectionUtils.setField(idField, obj, idGenerator());
+            ReflectionUtils.setField(idField, obj, idGenerator(obj.getClass()));
         }
-        return insert(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false));
+        int result = insert(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false));
+        evict(obj, idField);
+        return result;
     }
 
     @Override
     public void batchInsert(Collection<?> objs) {
-        objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> {
-            Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
-            List<Map<String, Object>> maps = new ArrayList<>();
-            Field idField = tableInfo.getMiddle().getKey();
-            ReflectionUtils.makeAccessible(idField);
-            val.forEach(obj -> {
-                Object idValue = ReflectionUtils.getField(idField, obj);
-                if (ObjectUtils.isEmpty(idValue)) {
-                    ReflectionUtils.setField(idField, obj, idGenerator());
-                }
-                Map<String, Object> map = buildMap(obj, tableInfo.getRight(), false);
-                maps.add(map);
-            });
-            batchInsert(tableInfo.getLeft(), tableInfo.getRight().values(), maps);
-        });
+        objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> batchInsert(key, val.iterator()));
+    }
+
+    @Override
+    public <T> void batchInsert(Iterator<T> objs, Class<T> mappedClass) {
+        batchInsert(mappedClass, Iterators.filter(objs, Objects::nonNull));
+    }
+
+    private void batchInsert(Class<?> clazz, Iterator<?> objs) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(clazz);
+        BeanExtractor<?> extractor = getExtractor(clazz, tableInfo.getRight());
+        Field idField = tableInfo.getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        List<Object> idValues = beanCache.containsKey(clazz) ? new ArrayList<>() : null;
+        batchInsertRows(tableInfo.getLeft(), extractor.getColumns(), Iterators.transform(objs, obj -> {
+            Object idValue = ReflectionUtils.getField(idField, obj);
+            if (ObjectUtils.isEmpty(idValue)) {
+                ReflectionUtils.setField(idField, obj, idGenerator(obj.getClass()));
+            }
+            Optional.ofNullable(idValues).ifPresent(e -> e.add(ReflectionUtils.getField(idField, obj)));
+            return extractor.values(obj);
+        }));
+        Optional.ofNullable(idValues).ifPresent(e -> evictAll(clazz, idField, e));
     }
 
     @Override
     public <T> int updateById(T obj, boolean skipBlank) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(obj);
-        return update(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), skipBlank), tableInfo.getMiddle().getValue());
+        int result = update(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), skipBlank), tableInfo.getMiddle().getValue());
+        evict(obj, tableInfo.getMiddle().getKey());
+        return result;
     }
 
     @Override
@@ -125,37 +467,58 @@ public abstract class BaseBeanDao extends BaseSqlDao {
         objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> {
             Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
             String idColumn = tableInfo.getMiddle().getValue();
-            StringBuilder stringBuilder = new StringBuilder("UPDATE ");
-            stringBuilder.append(tableInfo.getLeft());
-            stringBuilder.append(" SET ");
-            stringBuilder.append(tableInfo.getRight().values().stream().filter(e -> ObjectUtils.notEqual(e, idColumn)).map(e -> e.concat(" = ?")).collect(Collectors.joining(" , ")));
-            stringBuilder.append(" WHERE ");
-            stringBuilder.append(idColumn.concat(" = ?"));
-            String sql = stringBuilder.toString();
-            List<Object[]> batchArgs = new ArrayList<>();
+            BeanExtractor<?> extractor = getExtractor(key, tableInfo.getRight());
+            List<String> columns = extractor.getColumns();
+            int idIndex = extractor.indexOf(idColumn);
+            Map<BitSet, List<Object[]>> shapeGroup = new LinkedHashMap<>();
+            val.forEach(obj -> {
+                Object[] values = extractor.values(obj);
+                Collection<String> unloadedColumns = unloadedColumns(obj);
+                BitSet shape = new BitSet(columns.size());
+                List<Object> args = new ArrayList<>(columns.size());
+                for (int index = 0; index < values.length; index++) {
+                    if (index != idIndex && (!skipBlank || !BeanExtractor.isBlank(values[index])) && (Objects.nonNull(values[index]) || !unloadedColumns.contains(columns.get(index)))) {
+                        shape.set(index);
+                        args.add(values[index]);
+                    }
+                }
+                args.add(values[idIndex]);
+                shapeGroup.computeIfAbsent(shape, e -> new ArrayList<>()).add(args.toArray());
+            });
+            shapeGroup.forEach((shape, batchArgs) -> {
+                if (!shape.isEmpty()) {
+                    String sql = updateSqlCache.computeIfAbsent(new AbstractMap.SimpleImmutableEntry<>(key, shape), e -> {
+                        StringBuilder stringBuilder = new StringBuilder("UPDATE ");
+                        stringBuilder.append(tableInfo.getLeft());
+                        stringBuilder.append(" SET ");
+                        stringBuilder.append(shape.stream().mapToObj(columns::get).map(column -> column.concat(" = ?")).collect(Collectors.joining(" , ")));
+                        stringBuilder.append(" WHERE ");
+                        stringBuilder.append(idColumn.concat(" = ?"));
+                        return stringBuilder.toString();
+                    });
+                    executeBatch(sql, batchArgs, () -> getJdbcTemplate().batchUpdate(sql, batchArgs));
+                }
+            });
+            evictTree(tableInfo.getLeft());
+            evict(key, val);
+        });
+    }
+
+    @Override
+    public void bulkUpdate(Collection<?> objs, boolean skipBlank) {
+        objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> {
+            Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
             List<Map<String, Object>> maps = val.stream().map(e -> buildMap(e, tableInfo.getRight(), skipBlank)).collect(Collectors.toList());
-            if (skipBlank) {
-                List<?> idList = maps.stream().map(e -> e.get(idColumn)).collect(Collectors.toList());
-                Map<?, Map<String, Object>> idGroup = getList(tableInfo.getLeft(), idColumn, idList)
-                        .stream().collect(Collectors.groupingBy(e -> e.get(idColumn)))
-                        .entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get(0)));
-                maps = maps.stream().map(e -> {
-                    Object idValue = e.get(idColumn);
-                    Map<String, Object> dbMap = idGroup.get(idValue);
-                    Map<String, Object> mergeMap = new LinkedCaseInsensitiveMap<>();
-                    mergeMap.putAll(dbMap);
-                    mergeMap.putAll(e);
-                    return mergeMap;
-                }).collect(Collectors.toList());
+            if (skipBlank || getLazyMap(key).isEmpty()) {
+                bulkUpdate(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), tableInfo.getRight().values(), maps, skipBlank);
+            } else {
+                String idColumn = tableInfo.getMiddle().getValue();
+                Map<Object, Map<String, Object>> uniqueMaps = new LinkedHashMap<>();
+                maps.forEach(e -> uniqueMaps.put(e.get(idColumn), e));
+                List<Map<String, Object>> lastMaps = new ArrayList<>(uniqueMaps.values());
+                columnGroups(lastMaps).forEach(columns -> bulkUpdate(tableInfo.getLeft(), idColumn, columns, lastMaps.stream().filter(e -> columns.equals(new ArrayList<>(e.keySet()))).collect(Collectors.toList()), false));
             }
-            maps.forEach(map -> {
-                Object idValue = map.get(idColumn);
-                Object[] objects = tableInfo.getRight().values().stream().filter(e -> ObjectUtils.notEqual(e, idColumn)).map(map::get).toArray();
-                batchArgs.add(ArrayUtils.add(objects, idValue));
-            });
-            logger.info("sql = {}", sql);
-            batchArgs.forEach(e -> logger.info("args = {}", Arrays.asList(e)));
-            getJdbcTemplate().batchUpdate(sql, batchArgs);
+            evict(key, val);
         });
     }
 
@@ -166,41 +529,36 @@ public abstract class BaseBeanDao extends BaseSqlDao {
         ReflectionUtils.makeAccessible(idField);
         Object idValue = ReflectionUtils.getField(idField, obj);
         if (ObjectUtils.isEmpty(idValue)) {
-            ReflectionUtils.setField(idField, obj, idGenerator());
+            ReflectionUtils.setField(idField, obj, idGenerator(obj.getClass()));
             return insert(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false));
         } else {
-            Map<String, Object> map = getMap(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue);
-            if (Objects.isNull(map)) {
-                return insert(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false));
-            } else {
-                return update(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false), tableInfo.getMiddle().getValue());
-            }
+            int result = upsert(tableInfo.getLeft(), buildMap(obj, tableInfo.getRight(), false), tableInfo.getMiddle().getValue());
+            evict(obj, idField);
+            return result;
         }
     }
 
     @Override
     public void batchInsertOrUpdate(Collection<?> objs) {
-        List<Object> insertList = new ArrayList<>();
-        List<Object> updateList = new ArrayList<>();
         objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> {
             Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
+            List<Map<String, Object>> maps = new ArrayList<>();
             Field idField = tableInfo.getMiddle().getKey();
             ReflectionUtils.makeAccessible(idField);
-            List<?> idList = val.stream().map(e -> ReflectionUtils.getField(idField, e)).filter(ObjectUtils::isNotEmpty).collect(Collectors.toList());
-            Map<?, List<Map<String, Object>>> idGroup = getList(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idList).stream().collect(Collectors.groupingBy(e -> e.get(tableInfo.getMiddle().getValue())));
             val.forEach(obj -> {
                 Object idValue = ReflectionUtils.getField(idField, obj);
                 if (ObjectUtils.isEmpty(idValue)) {
-                    insertList.add(obj);
-                } else if (idGroup.containsKey(idValue)) {
-                    updateList.add(obj);
-                } else {
-                    insertList.add(obj);
+                    ReflectionUtils.setField(idField, obj, idGenerator(obj.getClass()));
                 }
+                maps.add(buildMap(obj, tableInfo.getRight(), false));
             });
+            if (getLazyMap(key).isEmpty()) {
+                batchUpsert(tableInfo.getLeft(), tableInfo.getRight().values(), tableInfo.getMiddle().getValue(), maps);
+            } else {
+                columnGroups(maps).forEach(columns -> batchUpsert(tableInfo.getLeft(), columns, tableInfo.getMiddle().getValue(), maps.stream().filter(e -> columns.equals(new ArrayList<>(e.keySet()))).collect(Collectors.toList())));
+            }
+            evict(key, val);
         });
-        batchInsert(insertList);
-        batchUpdate(updateList, false);
     }
 
     @Override
@@ -209,7 +567,9 @@ public abstract class BaseBeanDao extends BaseSqlDao {
         Field idFiled = tableInfo.getMiddle().getKey();
         ReflectionUtils.makeAccessible(idFiled);
         Object idValue = ReflectionUtils.getField(idFiled, obj);
-        return delete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue);
+        int result = delete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue);
+        evict(obj.getClass(), idFiled, idValue);
+        return result;
     }
 
     @Override
@@ -220,37 +580,88 @@ public abstract class BaseBeanDao extends BaseSqlDao {
             ReflectionUtils.makeAccessible(idFiled);
             List<?> idValues = val.stream().map(e -> ReflectionUtils.getField(idFiled, e)).collect(Collectors.toList());
             batchDelete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValues);
+            evictAll(key, idFiled, idValues);
         });
     }
 
     @Override
     public <T, ID> int delete(ID idValue, Class<T> mappedClass) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(mappedClass);
-        return delete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue);
+        int result = delete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue);
+        evict(mappedClass, tableInfo.getMiddle().getKey(), idValue);
+        return result;
     }
 
     @Override
     public <T, ID> int batchDelete(Collection<ID> idValues, Class<T> mappedClass) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(mappedClass);
-        return batchDelete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValues);
+        int result = batchDelete(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValues);
+        evictAll(mappedClass, tableInfo.getMiddle().getKey(), idValues);
+        return result;
+    }
+
+    private <T> T loadBean(Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo, Object idValue, Object key, Class<T> mappedClass) {
+        BatchLoader<Object, Object> loader = loaders.get(mappedClass);
+        if (Objects.isNull(loader) || Objects.isNull(key) || inTransaction() || !canShareRead()) {
+            return getBean(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue, mappedClass);
+        }
+        return Optional.ofNullable(join(loader.load(key))).map(e -> copyBean((T) e)).orElse(null);
     }
 
     @Override
     public <T, ID> T getBean(ID idValue, Class<T> mappedClass) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(mappedClass);
-        return getBean(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValue, mappedClass);
+        Cache<Object, Object> cache = beanCache.get(mappedClass);
+        Object key = cacheKey(tableInfo.getMiddle().getKey(), idValue);
+        if (Objects.isNull(cache) || Objects.isNull(key) || inTransaction()) {
+            return loadBean(tableInfo, idValue, key, mappedClass);
+        }
+        T cached = (T) cache.getIfPresent(key);
+        if (Objects.nonNull(cached)) {
+            return copyBean(cached);
+        }
+        long stamp = stamp(mappedClass, key);
+        T bean = loadBean(tableInfo, idValue, key, mappedClass);
+        Optional.ofNullable(bean).map(BaseBeanDao::copyBean).ifPresent(e -> cachePut(mappedClass, cache, key, stamp, e));
+        return bean;
     }
 
     @Override
     public <T, ID> List<T> getBeans(Collection<ID> idValues, Class<T> mappedClass, String... lastSql) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(mappedClass);
-        return getBeans(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValues, mappedClass, lastSql);
+        Cache<Object, Object> cache = beanCache.get(mappedClass);
+        boolean hasLastSql = Optional.ofNullable(lastSql).map(Arrays::stream).map(e -> e.anyMatch(StringUtils::isNotBlank)).orElse(false);
+        if (Objects.isNull(cache) || hasLastSql || inTransaction()) {
+            return getBeans(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), idValues, mappedClass, lastSql);
+        }
+        Field idField = tableInfo.getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        List<Object> keys = idValues.stream().filter(Objects::nonNull).map(e -> cacheKey(idField, e)).distinct().collect(Collectors.toList());
+        Map<Object, T> found = new HashMap<>();
+        Map<Object, Long> missMap = new LinkedHashMap<>();
+        keys.forEach(key -> {
+            T cached = (T) cache.getIfPresent(key);
+            if (Objects.nonNull(cached)) {
+                found.put(key, copyBean(cached));
+            } else {
+                missMap.put(key, stamp(mappedClass, key));
+            }
+        });
+        if (!missMap.isEmpty()) {
+            getBeans(tableInfo.getLeft(), tableInfo.getMiddle().getValue(), missMap.keySet(), mappedClass).forEach(e -> Optional.ofNullable(ReflectionUtils.getField(idField, e)).map(key -> cacheKey(idField, key)).ifPresent(key -> {
+                found.putIfAbsent(key, e);
+                Optional.ofNullable(missMap.get(key)).ifPresent(stamp -> cachePut(mappedClass, cache, key, stamp, copyBean(e)));
+            }));
+        }
+        return keys.stream().map(found::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
     @Override
     public <T> int delete(T example) {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
-        return delete(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()));
+        int result = delete(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()));
+        invalidateCache(example.getClass());
+        return result;
     }
 
     @Override
@@ -270,4 +681,70 @@ public abstract class BaseBeanDao extends BaseSqlDao {
         Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
         return selectPage(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()), pageNum, pageSize, (Class<T>) example.getClass(), lastSql);
     }
+
+    @Override
+    public <T, R> List<R> getProjections(T example, Class<R> projection, String... lastSql) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
+        return getBeans(tableInfo.getLeft(), projectionColumns(tableInfo.getRight(), projection), buildMap(example, tableInfo.getRight()), projection, lastSql);
+    }
+
+    @Override
+    public <T, R> PageResult<R> getProjectionPage(T example, long pageNum, long pageSize, Class<R> projection, String... lastSql) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
+        return selectPage(tableInfo.getLeft(), projectionColumns(tableInfo.getRight(), projection), buildMap(example, tableInfo.getRight()), pageNum, pageSize, projection, lastSql);
+    }
+
+    @Override
+    public <T> SliceResult<T> getSlice(T example, long pageNum, long pageSize, String... lastSql) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
+        return selectSlice(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()), pageNum, pageSize, (Class<T>) example.getClass(), lastSql);
+    }
+
+    @Override
+    public <T, ID> KeysetResult<T> getKeyset(T example, ID lastId, long pageSize) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
+        return selectKeyset(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()), tableInfo.getMiddle().getValue(), lastId, pageSize, (Class<T>) example.getClass());
+    }
+
+    @Override
+    public <T> KeysetResult<T> getKeyset(T example, String keyProperty, Object lastKey, long pageSize) {
+        Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(example);
+        String keyColumn = Objects.requireNonNull(tableInfo.getRight().get(keyProperty));
+        return selectKeyset(tableInfo.getLeft(), buildMap(example, tableInfo.getRight()), keyColumn, lastKey, pageSize, (Class<T>) example.getClass());
+    }
+
+    @Override
+    public <T> void loadLazy(Collection<T> objs, String... properties) {
+        objs.stream().filter(Objects::nonNull).collect(Collectors.groupingBy(Object::getClass)).forEach((key, val) -> {
+            Triple<String, Map.Entry<Field, String>, Map<String, String>> tableInfo = getTableInfo(key);
+            Map<String, String> loadMap = new LinkedHashMap<>();
+            if (ArrayUtils.isEmpty(properties)) {
+                loadMap.putAll(getLazyMap(key));
+            } else {
+                Arrays.stream(properties).forEach(e -> loadMap.put(e, Optional.ofNullable(tableInfo.getRight().get(e)).orElseThrow(() -> new IllegalArgumentException("unknown property " + e + " on " + key.getName()))));
+            }
+            if (loadMap.isEmpty()) {
+                return;
+            }
+            Field idField = tableInfo.getMiddle().getKey();
+            ReflectionUtils.makeAccessible(idField);
+            Map<Object, List<Object>> targetMap = new LinkedHashMap<>();
+            val.forEach(e -> Optional.ofNullable(cacheKey(idField, ReflectionUtils.getField(idField, e))).ifPresent(id -> targetMap.computeIfAbsent(id, k -> new ArrayList<>()).add(e)));
+            if (targetMap.isEmpty()) {
+                return;
+            }
+            List<String> columns = new ArrayList<>(loadMap.size() + 1);
+            columns.add(tableInfo.getMiddle().getValue());
+            columns.addAll(loadMap.values());
+            List<PropertyDescriptor> descriptors = loadMap.keySet().stream().map(e -> BeanUtils.getPropertyDescriptor(key, e)).filter(Objects::nonNull).filter(e -> Objects.nonNull(e.getReadMethod()) && Objects.nonNull(e.getWriteMethod())).collect(Collectors.toList());
+            getBeans(tableInfo.getLeft(), columns, tableInfo.getMiddle().getValue(), targetMap.keySet(), key).forEach(bean -> {
+                List<Object> targets = targetMap.getOrDefault(cacheKey(idField, ReflectionUtils.getField(idField, bean)), Collections.emptyList());
+                descriptors.forEach(pd -> {
+                    Object value = ReflectionUtils.invokeMethod(pd.getReadMethod(), bean);
+                    targets.forEach(target -> ReflectionUtils.invokeMethod(pd.getWriteMethod(), target, value));
+                });
+                targets.forEach(target -> LoadState.markLoaded(target, loadMap.keySet()));
+            });
+        });
+    }
 }
\ No newline at end of file
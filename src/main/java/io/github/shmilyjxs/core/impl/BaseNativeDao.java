@@ -1,36 +1,489 @@
 package io.github.shmilyjxs.core.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.shmilyjxs.core.IDaoContext;
+import io.github.shmilyjxs.dialects.IDialect;
+import io.github.shmilyjxs.listener.ISqlListener;
+import io.github.shmilyjxs.listener.LoggingSqlListener;
+import io.github.shmilyjxs.listener.SqlEvent;
+import io.github.shmilyjxs.utils.BeanMapper;
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.LoadState;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import org.apache.commons.lang3.ArrayUtils;
 import org.intellij.lang.annotations.Language;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class BaseNativeDao implements IDaoContext {
 
     private static final Logger logger = LoggerFactory.getLogger(BaseNativeDao.class);
 
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern QUERY = Pattern.compile("^\\s*\\(?\\s*(SELECT|WITH)\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern ORDER_BY_TAIL = Pattern.compile("\\b(LIMIT|OFFSET|FETCH|ROWS|FOR)\\b|[()?'\"]", Pattern.CASE_INSENSITIVE);
+
+    private static final ExecutorService EXPLAIN_EXECUTOR = newExplainExecutor();
+
+    private volatile Executor queryExecutor;
+
+    private final Cache<String, String> planCache = CacheBuilder.newBuilder().maximumSize(512L).expireAfterWrite(10L, TimeUnit.MINUTES).build();
+
+    private final AtomicLong nextExplain = new AtomicLong(System.nanoTime());
+
+    private volatile long explainNanos = 0L;
+
+    private volatile long explainIntervalNanos = TimeUnit.SECONDS.toNanos(1L);
+
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder flights = new LongAdder();
+
+    private final LongAdder collapsed = new LongAdder();
+
+    private volatile boolean singleFlight = false;
+
+    private final List<ISqlListener> listeners = new CopyOnWriteArrayList<>(Collections.singletonList(new LoggingSqlListener()));
+
+    private static ExecutorService newExplainExecutor() {
+        ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(16), runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    public void addListener(ISqlListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    public void removeListener(ISqlListener listener) {
+        listeners.remove(listener);
+    }
+
+    public List<ISqlListener> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    public boolean isSingleFlight() {
+        return singleFlight;
+    }
+
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    public long getFlightCount() {
+        return flights.sum();
+    }
+
+    public long getCollapsedCount() {
+        return collapsed.sum();
+    }
+
+    public long getExplainThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(explainNanos);
+    }
+
+    public void setExplainThresholdMillis(long explainThresholdMillis) {
+        this.explainNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, explainThresholdMillis));
+    }
+
+    public long getExplainIntervalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(explainIntervalNanos);
+    }
+
+    public void setExplainIntervalMillis(long explainIntervalMillis) {
+        this.explainIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, explainIntervalMillis));
+    }
+
+    public void clearPlans() {
+        planCache.invalidateAll();
+    }
+
+    public Executor getQueryExecutor() {
+        return queryExecutor;
+    }
+
+    public void setQueryExecutor(Executor queryExecutor) {
+        this.queryExecutor = queryExecutor;
+    }
+
+    protected JdbcTemplate getPrimaryJdbcTemplate() {
+        return getJdbcTemplate();
+    }
+
+    protected JdbcTemplate getReadJdbcTemplate() {
+        return getJdbcTemplate();
+    }
+
+    protected DataSource getReadDataSource() {
+        return getDataSource();
+    }
+
+    protected boolean canShareRead() {
+        return true;
+    }
+
+    protected <T> RowMapper<T> getRowMapper(Class<T> mappedClass) {
+        return BeanMapper.of(mappedClass).rowMapper();
+    }
+
+    private void fire(SqlEvent event, BiConsumer<ISqlListener, SqlEvent> callback) {
+        for (ISqlListener listener : listeners) {
+            try {
+                callback.accept(listener, event);
+            } catch (RuntimeException e) {
+                logger.warn("sql listener {} failed", listener, e);
+            }
+        }
+    }
+
+    private String explain(@Language("SQL") final String sql, Object[] args) {
+        IDialect dialect = getDBType().getDialect();
+        String explainSql = dialect.explainSql(sql);
+        String outputSql = dialect.explainOutputSql();
+        return getReadJdbcTemplate().execute((ConnectionCallback<String>) con -> {
+            JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+            List<String> lines;
+            if (Objects.isNull(outputSql)) {
+                lines = template.query(explainSql, (rs, rowNum) -> rs.getString(1), args);
+            } else {
+                template.update(explainSql, args);
+                lines = template.queryForList(outputSql, String.class);
+            }
+            return String.join("\n", lines);
+        });
+    }
+
+    private void explain(SqlEvent event) {
+        String shape = event.getShape();
+        String plan = planCache.getIfPresent(shape);
+        if (Objects.isNull(plan)) {
+            long now = System.nanoTime();
+            long next = nextExplain.get();
+            if (now - next < 0L || !nextExplain.compareAndSet(next, now + explainIntervalNanos)) {
+                return;
+            }
+            EXPLAIN_EXECUTOR.execute(() -> {
+                String result;
+                try {
+                    result = explain(event.getSql(), event.getArgs());
+                } catch (RuntimeException e) {
+                    logger.debug("explain {} failed", event.getSql(), e);
+                    result = "explain failed: " + e.getMessage();
+                }
+                planCache.put(shape, result);
+                logger.warn("slow sql plan sql = {} plan = {}", event.getSql(), result);
+            });
+            return;
+        }
+        event.setPlan(plan);
+    }
+
+    private void complete(SqlEvent event, long rows, Throwable error) {
+        if (Objects.nonNull(event)) {
+            event.complete(rows, error);
+            long threshold = explainNanos;
+            if (threshold > 0L && Objects.isNull(error) && !event.isBatch() && event.getElapsedNanos() >= threshold && QUERY.matcher(event.getSql()).find() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+                explain(event);
+            }
+            fire(event, ISqlListener::afterExecute);
+        }
+    }
+
+    private static long rows(Object result) {
+        if (Objects.isNull(result)) {
+            return 0L;
+        }
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        if (result instanceof int[]) {
+            return IntStream.of((int[]) result).filter(e -> e > 0).asLongStream().sum();
+        }
+        return 1L;
+    }
+
+    private <T> T execute(SqlEvent event, ToLongFunction<? super T> rows, Supplier<T> action) {
+        fire(event, ISqlListener::beforeExecute);
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error e) {
+            complete(event, 0L, e);
+            throw e;
+        }
+        complete(event, rows.applyAsLong(result), null);
+        return result;
+    }
+
+    protected <T> T execute(@Language("SQL") final String sql, Object[] args, ToLongFunction<? super T> rows, Supplier<T> action) {
+        if (listeners.isEmpty()) {
+            return action.get();
+        }
+        return execute(new SqlEvent(sql, args), rows, action);
+    }
+
+    protected <T> T execute(@Language("SQL") final String sql, Object[] args, Supplier<T> action) {
+        return execute(sql, args, BaseNativeDao::rows, action);
+    }
+
+    protected int[] executeBatch(@Language("SQL") final String sql, List<Object[]> batchArgs, Supplier<int[]> action) {
+        if (listeners.isEmpty()) {
+            return action.get();
+        }
+        return execute(new SqlEvent(sql, batchArgs), BaseNativeDao::rows, action);
+    }
+
+    protected static Object copyRow(Object row) {
+        if (Objects.isNull(row) || BeanUtils.isSimpleValueType(row.getClass())) {
+            return row;
+        }
+        if (row instanceof Map) {
+            Map<String, Object> copy = new LinkedCaseInsensitiveMap<>(((Map<?, ?>) row).size());
+            ((Map<?, ?>) row).forEach((key, val) -> copy.put(String.valueOf(key), val));
+            return copy;
+        }
+        Object copy = BeanUtils.instantiateClass(row.getClass());
+        BeanUtils.copyProperties(row, copy);
+        LoadState.copy(row, copy);
+        return copy;
+    }
+
+    private static <T> List<T> copyRows(List<T> rows) {
+        return rows.stream().map(e -> (T) copyRow(e)).collect(Collectors.toList());
+    }
+
+    private <T> T singleFlight(@Language("SQL") final String sql, Class<?> mappedClass, Object[] args, UnaryOperator<T> copier, Supplier<T> action) {
+        if (!singleFlight || TransactionSynchronizationManager.isActualTransactionActive() || !canShareRead()) {
+            return action.get();
+        }
+        List<Object> key = Arrays.asList(sql, mappedClass, Objects.isNull(args) ? Collections.emptyList() : Arrays.asList(args));
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (Objects.nonNull(existing)) {
+            collapsed.increment();
+            return copier.apply((T) join(existing));
+        }
+        flights.increment();
+        try {
+            T result = action.get();
+            future.complete(result);
+            return copier.apply(result);
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static void release(ResultSet rs, PreparedStatement ps, Connection con, DataSource dataSource, boolean resetAutoCommit) {
+        JdbcUtils.closeResultSet(rs);
+        JdbcUtils.closeStatement(ps);
+        if (resetAutoCommit) {
+            try {
+                con.setAutoCommit(true);
+            } catch (SQLException e) {
+                logger.warn("reset autoCommit failed", e);
+            }
+        }
+        DataSourceUtils.releaseConnection(con, dataSource);
+    }
+
+    private static String countSql(@Language("SQL") final String sql) {
+        int start = -1;
+        Matcher matcher = ORDER_BY.matcher(sql);
+        while (matcher.find()) {
+            start = matcher.start();
+        }
+        if (start >= 0 && !ORDER_BY_TAIL.matcher(sql).region(start, sql.length()).find()) {
+            return sql.substring(0, start);
+        }
+        return sql;
+    }
+
+    protected static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    protected <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        Executor executor = getQueryExecutor();
+        if (Objects.isNull(executor) || TransactionSynchronizationManager.isActualTransactionActive() || !canShareRead()) {
+            return null;
+        }
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    private <T> PageResult<T> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Function<String, List<T>> query, Object... args) {
+        if (pageNum <= 0L || pageSize <= 0L) {
+            return PageResult.of(pageNum, pageSize, count(sql, args), Collections.emptyList());
+        }
+        long offset = (pageNum - 1L) * pageSize;
+        CompletableFuture<Long> future = supplyAsync(() -> count(sql, args));
+        List<T> records = query.apply(getDBType().getDialect().pageSql(sql, offset, pageSize));
+        long total;
+        if (records.isEmpty() ? offset == 0L : records.size() < pageSize) {
+            total = offset + records.size();
+        } else {
+            total = Objects.isNull(future) ? count(sql, args) : join(future);
+        }
+        return PageResult.of(pageNum, pageSize, total, records);
+    }
+
+    private <T> SliceResult<T> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Function<String, List<T>> query) {
+        if (pageNum <= 0L || pageSize <= 0L) {
+            return SliceResult.of(pageNum, pageSize, false, Collections.emptyList());
+        }
+        List<T> records = query.apply(getDBType().getDialect().pageSql(sql, (pageNum - 1L) * pageSize, pageSize + 1L));
+        boolean hasNext = records.size() > pageSize;
+        if (hasNext) {
+            records = records.subList(0, (int) pageSize);
+        }
+        return SliceResult.of(pageNum, pageSize, hasNext, records);
+    }
+
+    private <T> KeysetResult<T> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, RowMapper<T> rowMapper, Object... args) {
+        boolean first = Objects.isNull(lastKey);
+        String keysetSql = getDBType().getDialect().keysetSql(sql, keyColumn, first, pageSize + 1L);
+        Object[] keysetArgs = first ? args : ArrayUtils.add(args, lastKey);
+        List<Map.Entry<Object, T>> list = execute(keysetSql, keysetArgs, () -> getReadJdbcTemplate().query(keysetSql, (rs, rowNum) -> new AbstractMap.SimpleImmutableEntry<>(rs.getObject(keyColumn), rowMapper.mapRow(rs, rowNum)), keysetArgs));
+        boolean hasNext = list.size() > pageSize;
+        if (hasNext) {
+            list = list.subList(0, (int) pageSize);
+        }
+        Object nextKey = list.isEmpty() ? lastKey : list.get(list.size() - 1).getKey();
+        return KeysetResult.of(pageSize, nextKey, hasNext, list.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+    }
+
+    private <T> Stream<T> stream(@Language("SQL") final String sql, int fetchSize, RowMapper<T> rowMapper, Object... args) {
+        SqlEvent event = listeners.isEmpty() ? null : new SqlEvent(sql, args);
+        Optional.ofNullable(event).ifPresent(e -> fire(e, ISqlListener::beforeExecute));
+        IDialect dialect = getDBType().getDialect();
+        DataSource dataSource = getReadDataSource();
+        Connection con = DataSourceUtils.getConnection(dataSource);
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        boolean resetAutoCommit = false;
+        try {
+            if (dialect.streamNeedsTransaction() && con.getAutoCommit()) {
+                con.setAutoCommit(false);
+                resetAutoCommit = true;
+            }
+            ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(dialect.streamFetchSize(fetchSize));
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            release(rs, ps, con, dataSource, resetAutoCommit);
+            DataAccessException ex = getReadJdbcTemplate().getExceptionTranslator().translate("StreamQuery", sql, e);
+            complete(event, 0L, ex);
+            throw ex;
+        }
+        AtomicLong rowCount = new AtomicLong();
+        ResultSet resultSet = rs;
+        PreparedStatement statement = ps;
+        boolean autoCommit = resetAutoCommit;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            private int rowNum = 0;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (resultSet.next()) {
+                        rowCount.incrementAndGet();
+                        action.accept(rowMapper.mapRow(resultSet, rowNum++));
+                        return true;
+                    }
+                    return false;
+                } catch (SQLException e) {
+                    throw getReadJdbcTemplate().getExceptionTranslator().translate("StreamQuery", sql, e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            release(resultSet, statement, con, dataSource, autoCommit);
+            complete(event, rowCount.get(), null);
+        });
+    }
+
     @Override
     public <T> T scalar(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
-        logger.info("sql = {}", sql);
-        Optional.ofNullable(args).filter(e -> e.length > 0).map(Arrays::asList).ifPresent(e -> logger.info("args = {}", e));
-        return getJdbcTemplate().queryForObject(sql, mappedClass, args);
+        return singleFlight(sql, mappedClass, args, e -> (T) copyRow(e), () -> execute(sql, args, e -> 1L, () -> getReadJdbcTemplate().queryForObject(sql, mappedClass, args)));
     }
 
     @Override
     public <T> List<T> scalarList(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
-        logger.info("sql = {}", sql);
-        Optional.ofNullable(args).filter(e -> e.length > 0).map(Arrays::asList).ifPresent(e -> logger.info("args = {}", e));
-        return getJdbcTemplate().queryForList(sql, mappedClass, args);
+        return singleFlight(sql, mappedClass, args, BaseNativeDao::copyRows, () -> execute(sql, args, () -> getReadJdbcTemplate().queryForList(sql, mappedClass, args)));
     }
 
     @Override
     public long count(@Language("SQL") final String sql, Object... args) {
-        return scalar("SELECT COUNT(*) FROM ( " + sql + " ) tmp", Long.class, args);
+        return scalar("SELECT COUNT(*) FROM ( " + countSql(sql) + " ) tmp", Long.class, args);
     }
 
     @Override
@@ -38,11 +491,15 @@ public abstract class BaseNativeDao implements IDaoContext {
         return count(sql, args) > 0L;
     }
 
+    @Override
+    public long nextSequence(String sequenceName) {
+        String sql = Objects.requireNonNull(getDBType().getDialect().sequenceSql(sequenceName));
+        return execute(sql, new Object[0], e -> 1L, () -> Objects.requireNonNull(getPrimaryJdbcTemplate().queryForObject(sql, Long.class)));
+    }
+
     @Override
     public int nativeUpdate(@Language("SQL") final String sql, Object... args) {
-        logger.info("sql = {}", sql);
-        Optional.ofNullable(args).filter(e -> e.length > 0).map(Arrays::asList).ifPresent(e -> logger.info("args = {}", e));
-        return getJdbcTemplate().update(sql, args);
+        return execute(sql, args, () -> getJdbcTemplate().update(sql, args));
     }
 
     @Override
@@ -53,21 +510,17 @@ public abstract class BaseNativeDao implements IDaoContext {
 
     @Override
     public <T> List<T> selectBeans(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
-        logger.info("sql = {}", sql);
-        Optional.ofNullable(args).filter(e -> e.length > 0).map(Arrays::asList).ifPresent(e -> logger.info("args = {}", e));
-        return getJdbcTemplate().query(sql, new BeanPropertyRowMapper<>(mappedClass), args);
+        return singleFlight(sql, mappedClass, args, BaseNativeDao::copyRows, () -> execute(sql, args, () -> getReadJdbcTemplate().query(sql, getRowMapper(mappedClass), args)));
     }
 
     @Override
     public <T> PageResult<T> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
-        long total = count(sql, args);
-        List<T> records = Collections.emptyList();
-        long pages = PageResult.pages(pageSize, total);
-        if (pageNum > 0L && pageNum <= pages) {
-            String pageSql = getDBType().getDialect().pageSql(sql, (pageNum - 1L) * pageSize, pageSize);
-            records = selectBeans(pageSql, mappedClass, args);
-        }
-        return PageResult.of(pageNum, pageSize, total, records);
+        return selectPage(sql, pageNum, pageSize, pageSql -> selectBeans(pageSql, mappedClass, args), args);
+    }
+
+    @Override
+    public <T> SliceResult<T> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
+        return selectSlice(sql, pageNum, pageSize, pageSql -> selectBeans(pageSql, mappedClass, args));
     }
 
     @Override
@@ -78,20 +531,50 @@ public abstract class BaseNativeDao implements IDaoContext {
 
     @Override
     public List<Map<String, Object>> selectList(@Language("SQL") final String sql, Object... args) {
-        logger.info("sql = {}", sql);
-        Optional.ofNullable(args).filter(e -> e.length > 0).map(Arrays::asList).ifPresent(e -> logger.info("args = {}", e));
-        return getJdbcTemplate().queryForList(sql, args);
+        return singleFlight(sql, Map.class, args, BaseNativeDao::copyRows, () -> execute(sql, args, () -> getReadJdbcTemplate().queryForList(sql, args)));
     }
 
     @Override
     public PageResult<Map<String, Object>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
-        long total = count(sql, args);
-        List<Map<String, Object>> records = Collections.emptyList();
-        long pages = PageResult.pages(pageSize, total);
-        if (pageNum > 0L && pageNum <= pages) {
-            String pageSql = getDBType().getDialect().pageSql(sql, (pageNum - 1L) * pageSize, pageSize);
-            records = selectList(pageSql, args);
+        return selectPage(sql, pageNum, pageSize, pageSql -> selectList(pageSql, args), args);
+    }
+
+    @Override
+    public SliceResult<Map<String, Object>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
+        return selectSlice(sql, pageNum, pageSize, pageSql -> selectList(pageSql, args));
+    }
+
+    @Override
+    public <T> KeysetResult<T> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass, Object... args) {
+        return selectKeyset(sql, keyColumn, lastKey, pageSize, getRowMapper(mappedClass), args);
+    }
+
+    @Override
+    public KeysetResult<Map<String, Object>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Object... args) {
+        return selectKeyset(sql, keyColumn, lastKey, pageSize, new ColumnMapRowMapper(), args);
+    }
+
+    @Override
+    public <T> Stream<T> streamBeans(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Object... args) {
+        return stream(sql, fetchSize, getRowMapper(mappedClass), args);
+    }
+
+    @Override
+    public <T> void forEachBean(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Consumer<? super T> consumer, Object... args) {
+        try (Stream<T> stream = streamBeans(sql, fetchSize, mappedClass, args)) {
+            stream.forEach(consumer);
+        }
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamList(@Language("SQL") final String sql, int fetchSize, Object... args) {
+        return stream(sql, fetchSize, new ColumnMapRowMapper(), args);
+    }
+
+    @Override
+    public void forEachMap(@Language("SQL") final String sql, int fetchSize, Consumer<? super Map<String, Object>> consumer, Object... args) {
+        try (Stream<Map<String, Object>> stream = streamList(sql, fetchSize, args)) {
+            stream.forEach(consumer);
         }
-        return PageResult.of(pageNum, pageSize, total, records);
     }
 }
\ No newline at end of file
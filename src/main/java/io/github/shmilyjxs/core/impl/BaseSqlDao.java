@@ -1,18 +1,48 @@
 package io.github.shmilyjxs.core.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import io.github.shmilyjxs.core.InStrategy;
+import io.github.shmilyjxs.dialects.IDialect;
+import io.github.shmilyjxs.utils.BeanExtractor;
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.LazyInitializer;
 import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import io.github.shmilyjxs.utils.TreeResult;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Triple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 public abstract class BaseSqlDao extends BaseNativeDao {
 
@@ -28,6 +58,106 @@ public abstract class BaseSqlDao extends BaseNativeDao {
 
     private static final int SAFE_SIZE = 1000;
 
+    private static final String TEMP_TABLE = "jdb_tmp_in";
+
+    private volatile InStrategy inStrategy = InStrategy.AUTO;
+
+    private volatile int batchSize = 1000;
+
+    private volatile boolean multiValues = false;
+
+    private final Map<String, Cache<List<Object>, TreeResult<?>>> treeCache = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, String>> columnTypeCache = new ConcurrentHashMap<>();
+
+    private final LazyInitializer<Boolean> recursiveSupported = LazyInitializer.of(() -> {
+        try {
+            int majorVersion = JdbcUtils.extractDatabaseMetaData(getDataSource(), DatabaseMetaData::getDatabaseMajorVersion);
+            return getDBType().getDialect().supportsRecursive(majorVersion);
+        } catch (MetaDataAccessException e) {
+            logger.warn("database version lookup failed", e);
+            return false;
+        }
+    });
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public InStrategy getInStrategy() {
+        return inStrategy;
+    }
+
+    public void setInStrategy(InStrategy inStrategy) {
+        this.inStrategy = Objects.requireNonNull(inStrategy);
+    }
+
+    public boolean isMultiValues() {
+        return multiValues;
+    }
+
+    public void setMultiValues(boolean multiValues) {
+        this.multiValues = multiValues;
+    }
+
+    public void enableTreeCache(String tableName, long maximumSize, long expireSeconds) {
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+        if (expireSeconds > 0L) {
+            builder.expireAfterWrite(expireSeconds, TimeUnit.SECONDS);
+        }
+        treeCache.put(tableName.toLowerCase(Locale.ENGLISH), builder.build());
+    }
+
+    public void disableTreeCache(String tableName) {
+        Optional.ofNullable(treeCache.remove(tableName.toLowerCase(Locale.ENGLISH))).ifPresent(Cache::invalidateAll);
+    }
+
+    public CacheStats getTreeCacheStats(String tableName) {
+        return Optional.ofNullable(treeCache.get(tableName.toLowerCase(Locale.ENGLISH))).map(Cache::stats).orElseGet(() -> new CacheStats(0L, 0L, 0L, 0L, 0L, 0L));
+    }
+
+    protected void evictTree(String tableName) {
+        if (!treeCache.isEmpty()) {
+            Optional.ofNullable(treeCache.get(tableName.toLowerCase(Locale.ENGLISH))).ifPresent(Cache::invalidateAll);
+        }
+    }
+
+    private Map<String, String> columnTypes(String tableName) {
+        String key = tableName.toLowerCase(Locale.ENGLISH);
+        Map<String, String> columnTypes = columnTypeCache.get(key);
+        if (Objects.isNull(columnTypes)) {
+            Map<String, String> map = new LinkedCaseInsensitiveMap<>();
+            Optional.ofNullable(getDBType().getDialect().columnTypesSql(tableName)).map(this::selectList).ifPresent(e -> e.forEach(row -> map.put(String.valueOf(row.get("COLUMN_NAME")), String.valueOf(row.get("TYPE_NAME")))));
+            columnTypes = Collections.unmodifiableMap(map);
+            columnTypeCache.putIfAbsent(key, columnTypes);
+        }
+        return columnTypes;
+    }
+
+    protected List<String> selectColumns(String tableName, Class<?> mappedClass) {
+        return Collections.emptyList();
+    }
+
+    private static List<String> projection(Collection<String> columns, String... requiredColumns) {
+        List<String> result = new ArrayList<>();
+        if (ObjectUtils.isNotEmpty(columns)) {
+            Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            Stream.concat(columns.stream(), Arrays.stream(requiredColumns)).filter(set::add).forEach(result::add);
+        }
+        return result;
+    }
+
+    private static String selectPrefix(Collection<String> columns) {
+        if (ObjectUtils.isEmpty(columns)) {
+            return SELECT_PREFIX;
+        }
+        return columns.stream().collect(Collectors.joining(" , ", "SELECT ", " FROM "));
+    }
+
     private static Map.Entry<String, Object[]> buildSql(String prefix, String tableName, Map<String, ?> columnMap, String... lastSql) {
         Collection<?> valueList = Collections.emptyList();
         StringBuilder stringBuilder = new StringBuilder(prefix);
@@ -41,31 +171,57 @@ public abstract class BaseSqlDao extends BaseNativeDao {
         return new AbstractMap.SimpleImmutableEntry<>(stringBuilder.toString(), valueList.toArray());
     }
 
-    private static <C> Map.Entry<String, Map<String, Object>> buildSql(String prefix, String tableName, String columnName, Collection<C> columnValues, String... lastSql) {
+    private static Map.Entry<String, Object[]> buildSql(String prefix, String tableName, String condition, Object[] args, String... lastSql) {
         StringBuilder stringBuilder = new StringBuilder(prefix);
         stringBuilder.append(tableName);
         stringBuilder.append(" WHERE ");
-        Map<String, Object> paramMap;
-        List<C> values = columnValues.stream().distinct().collect(Collectors.toList());
-        if (values.size() > SAFE_SIZE) {
-            List<List<C>> partitionList = Lists.partition(values, SAFE_SIZE);
-            Map<String, Object> map = new LinkedHashMap<>(partitionList.size());
-            String str = IntStream.range(0, partitionList.size()).mapToObj(index -> {
-                String key = columnName + (index + 1);
-                map.put(key, partitionList.get(index));
-                return columnName + " IN (:" + key + ")";
-            }).collect(Collectors.joining(" OR ", "( ", " )"));
-            paramMap = map;
-            stringBuilder.append(str);
-        } else if (values.size() > 1) {
-            paramMap = Collections.singletonMap(columnName, values);
-            stringBuilder.append(columnName).append(" IN (:").append(columnName).append(")");
-        } else {
-            paramMap = Collections.singletonMap(columnName, values.iterator().next());
-            stringBuilder.append(columnName).append(" = :").append(columnName);
-        }
+        stringBuilder.append(condition);
         lastSql(stringBuilder, lastSql);
-        return new AbstractMap.SimpleImmutableEntry<>(stringBuilder.toString(), paramMap);
+        return new AbstractMap.SimpleImmutableEntry<>(stringBuilder.toString(), args);
+    }
+
+    private static String inSql(String columnName, int size) {
+        if (size > 1) {
+            return columnName + Collections.nCopies(size, "?").stream().collect(Collectors.joining(" , ", " IN ( ", " )"));
+        }
+        return columnName + " = ?";
+    }
+
+    private static boolean hasLastSql(String... lastSql) {
+        return Optional.ofNullable(lastSql).map(Arrays::stream).map(e -> e.anyMatch(StringUtils::isNotBlank)).orElse(false);
+    }
+
+    private static String insertSql(String tableName, Collection<String> columns) {
+        StringBuilder stringBuilder = new StringBuilder(INSERT_PREFIX);
+        stringBuilder.append(tableName);
+        stringBuilder.append(columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
+        stringBuilder.append("VALUES");
+        stringBuilder.append(columns.stream().map(e -> "?").collect(Collectors.joining(" , ", " ( ", " ) ")));
+        return stringBuilder.toString();
+    }
+
+    private static Object[] row(Collection<String> columns, Map<String, ?> map) {
+        Map<String, ?> caseInsensitiveMap = map;
+        if (!(map instanceof LinkedCaseInsensitiveMap)) {
+            Map<String, Object> copy = new LinkedCaseInsensitiveMap<>(map.size());
+            copy.putAll(map);
+            caseInsensitiveMap = copy;
+        }
+        return columns.stream().map(caseInsensitiveMap::get).toArray();
+    }
+
+    private static Object[] mergeRow(Object[] left, Object[] right) {
+        Object[] result = left.clone();
+        for (int index = 0; index < right.length; index++) {
+            if (!BeanExtractor.isBlank(right[index])) {
+                result[index] = right[index];
+            }
+        }
+        return result;
+    }
+
+    private static List<Object[]> batchArgs(Collection<String> columns, Collection<Map<String, Object>> maps) {
+        return maps.stream().map(e -> row(columns, e)).collect(Collectors.toList());
     }
 
     private static void lastSql(StringBuilder stringBuilder, String... lastSql) {
@@ -82,43 +238,209 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     @Override
     public int insert(String tableName, Map<String, ?> columnMap) {
         if (ObjectUtils.isNotEmpty(columnMap)) {
-            StringBuilder stringBuilder = new StringBuilder(INSERT_PREFIX);
-            stringBuilder.append(tableName);
-            stringBuilder.append(columnMap.keySet().stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
-            stringBuilder.append("VALUES");
-            stringBuilder.append(columnMap.keySet().stream().map(e -> "?").collect(Collectors.joining(" , ", " ( ", " ) ")));
-            return nativeUpdate(stringBuilder.toString(), columnMap.values().toArray());
+            int count = nativeUpdate(insertSql(tableName, columnMap.keySet()), columnMap.values().toArray());
+            evictTree(tableName);
+            return count;
         }
         return 0;
     }
 
     @Override
     public int batchInsert(String tableName, Collection<String> columns, Collection<Map<String, Object>> maps) {
+        if (ObjectUtils.isNotEmpty(maps)) {
+            return batchInsert(tableName, columns, maps.iterator());
+        }
+        return 0;
+    }
+
+    @Override
+    public int batchInsert(String tableName, Collection<String> columns, Iterator<? extends Map<String, ?>> iterator) {
         if (ObjectUtils.isNotEmpty(columns)) {
-            if (ObjectUtils.isNotEmpty(maps)) {
-                StringBuilder stringBuilder = new StringBuilder(INSERT_PREFIX);
-                stringBuilder.append(tableName);
-                stringBuilder.append(columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
-                stringBuilder.append("VALUES");
-                stringBuilder.append(columns.stream().map(e -> "?").collect(Collectors.joining(" , ", " ( ", " ) ")));
-                String sql = stringBuilder.toString();
-                List<Object[]> batchArgs = maps.stream().map(e -> {
-                    if (e instanceof LinkedCaseInsensitiveMap) {
-                        return e;
+            List<String> columnList = new ArrayList<>(columns);
+            return batchInsertRows(tableName, columnList, Iterators.transform(iterator, e -> row(columnList, e)));
+        }
+        return 0;
+    }
+
+    private <C, R> R inQuery(String prefix, String tableName, String columnName, Collection<C> columnValues, boolean parallel, BiFunction<JdbcTemplate, Map.Entry<String, Object[]>, R> action, BinaryOperator<R> merger, String... lastSql) {
+        List<C> values = columnValues.stream().distinct().collect(Collectors.toList());
+        IDialect dialect = getDBType().getDialect();
+        JdbcTemplate jdbcTemplate = prefix.startsWith("SELECT ") ? getReadJdbcTemplate() : getJdbcTemplate();
+        BiFunction<JdbcTemplate, Map.Entry<String, Object[]>, R> logAction = (template, entry) -> execute(entry.getKey(), entry.getValue(), () -> action.apply(template, entry));
+        if (values.size() > SAFE_SIZE) {
+            InStrategy strategy = inStrategy;
+            Class<?> elementType = values.stream().filter(Objects::nonNull).findFirst().<Class<?>>map(Object::getClass).orElse(Object.class);
+            String arrayTypeName = dialect.arrayTypeName(elementType);
+            if (strategy == InStrategy.AUTO) {
+                strategy = Objects.nonNull(arrayTypeName) ? InStrategy.ARRAY : InStrategy.CHUNKS;
+            }
+            if (strategy == InStrategy.ARRAY && Objects.nonNull(arrayTypeName)) {
+                Object array = new AbstractSqlTypeValue() {
+                    @Override
+                    protected Object createTypeValue(Connection con, int sqlType, String typeName) throws SQLException {
+                        return con.createArrayOf(arrayTypeName, values.toArray());
+                    }
+                };
+                return logAction.apply(jdbcTemplate, buildSql(prefix, tableName, dialect.anyArraySql(columnName), new Object[]{array}, lastSql));
+            }
+            String tempTableSql = dialect.tempTableSql(TEMP_TABLE, tableName, columnName);
+            if (strategy == InStrategy.TEMP_TABLE && Objects.nonNull(tempTableSql) && !(dialect.tempTableCommits() && TransactionSynchronizationManager.isActualTransactionActive())) {
+                return jdbcTemplate.execute((ConnectionCallback<R>) con -> {
+                    JdbcTemplate template = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+                    template.execute(dialect.dropTempTableSql(TEMP_TABLE));
+                    template.execute(tempTableSql);
+                    try {
+                        String insertSql = insertSql(TEMP_TABLE, Collections.singletonList(columnName));
+                        Lists.partition(values, batchSize).stream().map(e -> e.stream().map(value -> new Object[]{value}).collect(Collectors.toList())).forEach(e -> executeBatch(insertSql, e, () -> template.batchUpdate(insertSql, e)));
+                        String condition = columnName + " IN ( SELECT " + columnName + " FROM " + TEMP_TABLE + " )";
+                        return logAction.apply(template, buildSql(prefix, tableName, condition, new Object[0], lastSql));
+                    } finally {
+                        template.execute(dialect.dropTempTableSql(TEMP_TABLE));
+                    }
+                });
+            }
+            if (strategy == InStrategy.CHUNKS && !hasLastSql(lastSql)) {
+                List<Map.Entry<String, Object[]>> entries = Lists.partition(values, SAFE_SIZE).stream()
+                        .map(e -> buildSql(prefix, tableName, inSql(columnName, e.size()), e.toArray(), lastSql))
+                        .collect(Collectors.toList());
+                List<CompletableFuture<R>> futures = entries.stream()
+                        .map(e -> parallel ? supplyAsync(() -> logAction.apply(jdbcTemplate, e)) : null)
+                        .collect(Collectors.toList());
+                if (futures.stream().allMatch(Objects::nonNull)) {
+                    return futures.stream().map(BaseNativeDao::join).reduce(merger).orElse(null);
+                }
+                return entries.stream().map(e -> logAction.apply(jdbcTemplate, e)).reduce(merger).orElse(null);
+            }
+            List<List<C>> partitionList = Lists.partition(values, SAFE_SIZE);
+            String condition = partitionList.stream().map(e -> inSql(columnName, e.size())).collect(Collectors.joining(" OR ", "( ", " )"));
+            return logAction.apply(jdbcTemplate, buildSql(prefix, tableName, condition, values.toArray(), lastSql));
+        }
+        return logAction.apply(jdbcTemplate, buildSql(prefix, tableName, inSql(columnName, values.size()), values.toArray(), lastSql));
+    }
+
+    private <T> TreeResult<T> tree(String tableName, String startColumn, Object columnValue, String joinColumn, boolean down, int maxDepth, Class<T> mappedClass, RowMapper<T> rowMapper) {
+        Cache<List<Object>, TreeResult<?>> cache = treeCache.get(tableName.toLowerCase(Locale.ENGLISH));
+        List<Object> key = Arrays.asList(startColumn, columnValue, joinColumn, down, maxDepth, mappedClass);
+        List<String> columns = projection(Optional.ofNullable(mappedClass).map(e -> selectColumns(tableName, e)).orElse(null), startColumn, joinColumn);
+        if (Objects.nonNull(cache)) {
+            TreeResult<T> cached = (TreeResult<T>) cache.getIfPresent(key);
+            if (Objects.nonNull(cached)) {
+                return cached.copy(e -> (T) copyRow(e));
+            }
+        }
+        RowMapper<Triple<Object, Object, T>> tripleMapper = (rs, rowNum) -> Triple.of(rs.getObject(startColumn), rs.getObject(joinColumn), rowMapper.mapRow(rs, rowNum));
+        List<Triple<Object, Object, T>> rows;
+        if (recursiveSupported.get()) {
+            String sql = getDBType().getDialect().treeSql(tableName, columns, startColumn, joinColumn, down, maxDepth);
+            rows = execute(sql, new Object[]{columnValue}, () -> getReadJdbcTemplate().query(sql, tripleMapper, columnValue));
+        } else {
+            rows = new ArrayList<>();
+            Set<Object> visited = new HashSet<>();
+            List<Triple<Object, Object, T>> level = inQuery(selectPrefix(columns), tableName, startColumn, Collections.singletonList(columnValue), false, (template, entry) -> template.query(entry.getKey(), tripleMapper, entry.getValue()), (left, right) -> Lists.newArrayList(Iterables.concat(left, right)));
+            for (int depth = 0; !level.isEmpty(); depth++) {
+                level = level.stream().filter(e -> visited.add(e.getLeft())).collect(Collectors.toList());
+                rows.addAll(level);
+                List<Object> keys = level.stream().map(e -> down ? e.getLeft() : e.getMiddle()).filter(Objects::nonNull).distinct().filter(e -> down || !visited.contains(e)).collect(Collectors.toList());
+                if (keys.isEmpty() || (maxDepth >= 0 && depth >= maxDepth)) {
+                    break;
+                }
+                String column = down ? joinColumn : startColumn;
+                level = inQuery(selectPrefix(columns), tableName, column, keys, true, (template, entry) -> template.query(entry.getKey(), tripleMapper, entry.getValue()), (left, right) -> Lists.newArrayList(Iterables.concat(left, right)));
+            }
+        }
+        TreeResult<T> result = TreeResult.of(rows);
+        Optional.ofNullable(cache).ifPresent(e -> e.put(key, result.copy(row -> (T) copyRow(row))));
+        return result;
+    }
+
+    private static RowMapper<Map<String, Object>> treeMapRowMapper() {
+        ColumnMapRowMapper columnMapRowMapper = new ColumnMapRowMapper();
+        return (rs, rowNum) -> {
+            Map<String, Object> map = columnMapRowMapper.mapRow(rs, rowNum);
+            map.remove(IDialect.DEPTH_COLUMN);
+            return map;
+        };
+    }
+
+    protected int batchInsertRows(String tableName, List<String> columns, Iterator<Object[]> iterator) {
+        int count = 0;
+        if (ObjectUtils.isNotEmpty(columns) && iterator.hasNext()) {
+            IDialect dialect = getDBType().getDialect();
+            int rows = multiValues ? Math.min(batchSize, dialect.maxBatchInsertRows(columns.size())) : batchSize;
+            String sql = multiValues ? dialect.batchInsertSql(tableName, columns, rows) : insertSql(tableName, columns);
+            List<Object[]> batchArgs = new ArrayList<>(rows);
+            while (iterator.hasNext()) {
+                batchArgs.add(iterator.next());
+                if (batchArgs.size() == rows || !iterator.hasNext()) {
+                    List<Object[]> chunk = batchArgs;
+                    if (multiValues) {
+                        String chunkSql = chunk.size() == rows ? sql : dialect.batchInsertSql(tableName, columns, chunk.size());
+                        count += IntStream.of(executeBatch(chunkSql, chunk, () -> new int[]{getJdbcTemplate().update(chunkSql, chunk.stream().flatMap(Arrays::stream).toArray())})).sum();
                     } else {
-                        Map<String, Object> map = new LinkedCaseInsensitiveMap<>(e.size());
-                        map.putAll(e);
-                        return map;
+                        count += IntStream.of(executeBatch(sql, chunk, () -> getJdbcTemplate().batchUpdate(sql, chunk))).sum();
                     }
-                }).map(e -> columns.stream().map(e::get).toArray()).collect(Collectors.toList());
-                logger.info("sql = {}", sql);
-                batchArgs.forEach(e -> logger.info("args = {}", Arrays.asList(e)));
-                return IntStream.of(getJdbcTemplate().batchUpdate(sql, batchArgs)).sum();
+                    batchArgs = new ArrayList<>(rows);
+                }
             }
+            evictTree(tableName);
+        }
+        return count;
+    }
+
+    @Override
+    public int upsert(String tableName, Map<String, ?> columnMap, String idColumn) {
+        if (ObjectUtils.isNotEmpty(columnMap)) {
+            String sql = getDBType().getDialect().upsertSql(tableName, columnMap.keySet(), idColumn);
+            int count = nativeUpdate(sql, columnMap.values().toArray());
+            evictTree(tableName);
+            return count;
         }
         return 0;
     }
 
+    @Override
+    public int batchUpsert(String tableName, Collection<String> columns, String idColumn, Collection<Map<String, Object>> maps) {
+        if (ObjectUtils.isNotEmpty(columns)) {
+            if (ObjectUtils.isNotEmpty(maps)) {
+                String sql = getDBType().getDialect().upsertSql(tableName, columns, idColumn);
+                List<Object[]> batchArgs = batchArgs(columns, maps);
+                int count = IntStream.of(executeBatch(sql, batchArgs, () -> getJdbcTemplate().batchUpdate(sql, batchArgs))).sum();
+                evictTree(tableName);
+                return count;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int bulkUpdate(String tableName, String idColumn, Collection<String> columns, Collection<Map<String, Object>> maps, boolean skipBlank) {
+        List<String> setColumns = columns.stream().filter(e -> !e.equalsIgnoreCase(idColumn)).collect(Collectors.toList());
+        int count = 0;
+        if (ObjectUtils.isNotEmpty(setColumns) && ObjectUtils.isNotEmpty(maps)) {
+            List<String> rowColumns = new ArrayList<>(setColumns.size() + 1);
+            rowColumns.add(idColumn);
+            rowColumns.addAll(setColumns);
+            IDialect dialect = getDBType().getDialect();
+            int rows = Math.max(1, Math.min(batchSize, dialect.maxBindParameters() / rowColumns.size()));
+            Map<String, String> columnTypes = columnTypes(tableName);
+            Map<Object, Object[]> uniqueRows = new LinkedHashMap<>();
+            maps.forEach(e -> {
+                Object[] row = row(rowColumns, e);
+                uniqueRows.merge(row[0], row, skipBlank ? BaseSqlDao::mergeRow : (left, right) -> right);
+            });
+            for (List<Object[]> partition : Iterables.partition(uniqueRows.values(), rows)) {
+                String sql = dialect.bulkUpdateSql(tableName, idColumn, setColumns, columnTypes, partition.size(), skipBlank);
+                Object[] args = partition.stream()
+                        .flatMap(Arrays::stream)
+                        .map(e -> skipBlank && BeanExtractor.isBlank(e) ? null : e)
+                        .toArray();
+                count += nativeUpdate(sql, args);
+            }
+            evictTree(tableName);
+        }
+        return count;
+    }
+
     @Override
     public int update(String tableName, Map<String, ?> columnMap, String columnName) {
         return update(tableName, columnMap, Collections.singleton(columnName));
@@ -157,7 +479,9 @@ public abstract class BaseSqlDao extends BaseNativeDao {
                     stringBuilder.append(setMap.keySet().stream().map(e -> e.concat(" = ?")).collect(Collectors.joining(" , ")));
                     stringBuilder.append(" WHERE ");
                     stringBuilder.append(map.keySet().stream().map(e -> e.concat(" = ?")).collect(Collectors.joining(" AND ")));
-                    return nativeUpdate(stringBuilder.toString(), ArrayUtils.addAll(setMap.values().toArray(), map.values().toArray()));
+                    int count = nativeUpdate(stringBuilder.toString(), ArrayUtils.addAll(setMap.values().toArray(), map.values().toArray()));
+                    evictTree(tableName);
+                    return count;
                 }
             }
         }
@@ -173,7 +497,9 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     public int delete(String tableName, Map<String, ?> columnMap) {
         if (ObjectUtils.isNotEmpty(columnMap)) {
             Map.Entry<String, Object[]> entry = buildSql(DELETE_PREFIX, tableName, columnMap);
-            return nativeUpdate(entry.getKey(), entry.getValue());
+            int count = nativeUpdate(entry.getKey(), entry.getValue());
+            evictTree(tableName);
+            return count;
         }
         return 0;
     }
@@ -181,10 +507,9 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     @Override
     public <C> int batchDelete(String tableName, String columnName, Collection<C> columnValues) {
         if (ObjectUtils.isNotEmpty(columnValues)) {
-            Map.Entry<String, Map<String, Object>> entry = buildSql(DELETE_PREFIX, tableName, columnName, columnValues);
-            logger.info("sql = {}", entry.getKey());
-            logger.info("paramMap = {}", entry.getValue());
-            return getNamedJdbcTemplate().update(entry.getKey(), entry.getValue());
+            int count = inQuery(DELETE_PREFIX, tableName, columnName, columnValues, false, (template, entry) -> template.update(entry.getKey(), entry.getValue()), Integer::sum);
+            evictTree(tableName);
+            return count;
         }
         return 0;
     }
@@ -197,7 +522,7 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     @Override
     public <T> T getBean(String tableName, Map<String, ?> columnMap, Class<T> mappedClass) {
         if (ObjectUtils.isNotEmpty(columnMap)) {
-            Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap);
+            Map.Entry<String, Object[]> entry = buildSql(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnMap);
             return selectBean(entry.getKey(), mappedClass, entry.getValue());
         }
         return null;
@@ -206,29 +531,73 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     @Override
     public <T, C> List<T> getBeans(String tableName, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
         if (ObjectUtils.isNotEmpty(columnValues)) {
-            Map.Entry<String, Map<String, Object>> entry = buildSql(SELECT_PREFIX, tableName, columnName, columnValues, lastSql);
-            logger.info("sql = {}", entry.getKey());
-            logger.info("paramMap = {}", entry.getValue());
-            return getNamedJdbcTemplate().query(entry.getKey(), entry.getValue(), new BeanPropertyRowMapper<>(mappedClass));
+            return inQuery(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnName, columnValues, true, (template, entry) -> template.query(entry.getKey(), getRowMapper(mappedClass), entry.getValue()), (left, right) -> Lists.newArrayList(Iterables.concat(left, right)), lastSql);
         }
         return Collections.emptyList();
     }
 
     @Override
     public <T> List<T> getBeans(String tableName, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql) {
-        Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap, lastSql);
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnMap, lastSql);
         return selectBeans(entry.getKey(), mappedClass, entry.getValue());
     }
 
+    @Override
+    public <T> T getBean(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass) {
+        if (ObjectUtils.isNotEmpty(columnMap)) {
+            Map.Entry<String, Object[]> entry = buildSql(selectPrefix(columns), tableName, columnMap);
+            return selectBean(entry.getKey(), mappedClass, entry.getValue());
+        }
+        return null;
+    }
+
+    @Override
+    public <T, C> List<T> getBeans(String tableName, Collection<String> columns, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
+        if (ObjectUtils.isNotEmpty(columnValues)) {
+            return inQuery(selectPrefix(columns), tableName, columnName, columnValues, true, (template, entry) -> template.query(entry.getKey(), getRowMapper(mappedClass), entry.getValue()), (left, right) -> Lists.newArrayList(Iterables.concat(left, right)), lastSql);
+        }
+        return Collections.emptyList();
+    }
+
+    @Override
+    public <T> List<T> getBeans(String tableName, Collection<String> columns, Map<String, ?> columnMap, Class<T> mappedClass, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(columns), tableName, columnMap, lastSql);
+        return selectBeans(entry.getKey(), mappedClass, entry.getValue());
+    }
+
+    @Override
+    public <T> PageResult<T> selectPage(String tableName, Collection<String> columns, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(columns), tableName, columnMap, lastSql);
+        return selectPage(entry.getKey(), pageNum, pageSize, mappedClass, entry.getValue());
+    }
+
     @Override
     public <T> PageResult<T> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
-        Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap, lastSql);
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnMap, lastSql);
         return selectPage(entry.getKey(), pageNum, pageSize, mappedClass, entry.getValue());
     }
 
+    @Override
+    public <T> SliceResult<T> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, Class<T> mappedClass, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnMap, lastSql);
+        return selectSlice(entry.getKey(), pageNum, pageSize, mappedClass, entry.getValue());
+    }
+
+    @Override
+    public <T> KeysetResult<T> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(projection(selectColumns(tableName, mappedClass), keyColumn)), tableName, columnMap);
+        return selectKeyset(entry.getKey(), keyColumn, lastKey, pageSize, mappedClass, entry.getValue());
+    }
+
+    @Override
+    public <T> Stream<T> streamBeans(String tableName, Map<String, ?> columnMap, int fetchSize, Class<T> mappedClass, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(selectColumns(tableName, mappedClass)), tableName, columnMap, lastSql);
+        return streamBeans(entry.getKey(), fetchSize, mappedClass, entry.getValue());
+    }
+
     @Override
     public <T, C> List<T> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
-        String sql = getDBType().getDialect().downRecursiveSql(tableName, startColumn, joinColumn);
+        String sql = getDBType().getDialect().downRecursiveSql(tableName, projection(selectColumns(tableName, mappedClass), startColumn, joinColumn), startColumn, joinColumn);
         StringBuilder stringBuilder = new StringBuilder(sql);
         lastSql(stringBuilder, lastSql);
         return selectBeans(stringBuilder.toString(), mappedClass, columnValue);
@@ -236,7 +605,7 @@ public abstract class BaseSqlDao extends BaseNativeDao {
 
     @Override
     public <T, C> List<T> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
-        String sql = getDBType().getDialect().upRecursiveSql(tableName, startColumn, joinColumn);
+        String sql = getDBType().getDialect().upRecursiveSql(tableName, projection(selectColumns(tableName, mappedClass), startColumn, joinColumn), startColumn, joinColumn);
         StringBuilder stringBuilder = new StringBuilder(sql);
         lastSql(stringBuilder, lastSql);
         return selectBeans(stringBuilder.toString(), mappedClass, columnValue);
@@ -259,10 +628,7 @@ public abstract class BaseSqlDao extends BaseNativeDao {
     @Override
     public <C> List<Map<String, Object>> getList(String tableName, String columnName, Collection<C> columnValues, String... lastSql) {
         if (ObjectUtils.isNotEmpty(columnValues)) {
-            Map.Entry<String, Map<String, Object>> entry = buildSql(SELECT_PREFIX, tableName, columnName, columnValues, lastSql);
-            logger.info("sql = {}", entry.getKey());
-            logger.info("paramMap = {}", entry.getValue());
-            return getNamedJdbcTemplate().queryForList(entry.getKey(), entry.getValue());
+            return inQuery(SELECT_PREFIX, tableName, columnName, columnValues, true, (template, entry) -> template.queryForList(entry.getKey(), entry.getValue()), (left, right) -> Lists.newArrayList(Iterables.concat(left, right)), lastSql);
         }
         return Collections.emptyList();
     }
@@ -273,15 +639,39 @@ public abstract class BaseSqlDao extends BaseNativeDao {
         return selectList(entry.getKey(), entry.getValue());
     }
 
+    @Override
+    public List<Map<String, Object>> getList(String tableName, Collection<String> columns, Map<String, ?> columnMap, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(selectPrefix(columns), tableName, columnMap, lastSql);
+        return selectList(entry.getKey(), entry.getValue());
+    }
+
     @Override
     public PageResult<Map<String, Object>> selectPage(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql) {
         Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap, lastSql);
         return selectPage(entry.getKey(), pageNum, pageSize, entry.getValue());
     }
 
+    @Override
+    public SliceResult<Map<String, Object>> selectSlice(String tableName, Map<String, ?> columnMap, long pageNum, long pageSize, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap, lastSql);
+        return selectSlice(entry.getKey(), pageNum, pageSize, entry.getValue());
+    }
+
+    @Override
+    public KeysetResult<Map<String, Object>> selectKeyset(String tableName, Map<String, ?> columnMap, String keyColumn, Object lastKey, long pageSize) {
+        Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap);
+        return selectKeyset(entry.getKey(), keyColumn, lastKey, pageSize, entry.getValue());
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamList(String tableName, Map<String, ?> columnMap, int fetchSize, String... lastSql) {
+        Map.Entry<String, Object[]> entry = buildSql(SELECT_PREFIX, tableName, columnMap, lastSql);
+        return streamList(entry.getKey(), fetchSize, entry.getValue());
+    }
+
     @Override
     public <C> List<Map<String, Object>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
-        String sql = getDBType().getDialect().downRecursiveSql(tableName, startColumn, joinColumn);
+        String sql = getDBType().getDialect().downRecursiveSql(tableName, Collections.emptyList(), startColumn, joinColumn);
         StringBuilder stringBuilder = new StringBuilder(sql);
         lastSql(stringBuilder, lastSql);
         return selectList(stringBuilder.toString(), columnValue);
@@ -289,9 +679,29 @@ public abstract class BaseSqlDao extends BaseNativeDao {
 
     @Override
     public <C> List<Map<String, Object>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
-        String sql = getDBType().getDialect().upRecursiveSql(tableName, startColumn, joinColumn);
+        String sql = getDBType().getDialect().upRecursiveSql(tableName, Collections.emptyList(), startColumn, joinColumn);
         StringBuilder stringBuilder = new StringBuilder(sql);
         lastSql(stringBuilder, lastSql);
         return selectList(stringBuilder.toString(), columnValue);
     }
+
+    @Override
+    public <T, C> TreeResult<T> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        return tree(tableName, startColumn, columnValue, joinColumn, true, maxDepth, mappedClass, getRowMapper(mappedClass));
+    }
+
+    @Override
+    public <T, C> TreeResult<T> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        return tree(tableName, startColumn, columnValue, joinColumn, false, maxDepth, mappedClass, getRowMapper(mappedClass));
+    }
+
+    @Override
+    public <C> TreeResult<Map<String, Object>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        return tree(tableName, startColumn, columnValue, joinColumn, true, maxDepth, null, treeMapRowMapper());
+    }
+
+    @Override
+    public <C> TreeResult<Map<String, Object>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        return tree(tableName, startColumn, columnValue, joinColumn, false, maxDepth, null, treeMapRowMapper());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package io.github.shmilyjxs.core.impl;
 
 import io.github.shmilyjxs.dialects.DBType;
+import io.github.shmilyjxs.generator.IIdGenerator;
+import io.github.shmilyjxs.generator.UUIDv7Generator;
 import io.github.shmilyjxs.utils.LazyInitializer;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -8,10 +10,11 @@ import org.springframework.jdbc.support.JdbcUtils;
 
 import javax.sql.DataSource;
 import java.util.Objects;
-import java.util.UUID;
 
 public class DaoContextImpl extends BaseBeanDao {
 
+    private static final IIdGenerator ID_GENERATOR = new UUIDv7Generator();
+
     private final DataSource dataSource;
     private final JdbcTemplate jdbcTemplate;
     private final NamedParameterJdbcTemplate namedJdbcTemplate;
@@ -55,6 +58,6 @@ public class DaoContextImpl extends BaseBeanDao {
 
     @Override
     public Object idGenerator() {
-        return UUID.randomUUID().toString();
+        return ID_GENERATOR.nextId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package io.github.shmilyjxs.core.impl;
+
+import com.google.common.hash.Hashing;
+import io.github.shmilyjxs.core.IShardStrategy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class HashShardStrategy implements IShardStrategy {
+
+    @Override
+    public int shard(Object shardKey, int shards) {
+        int hash = Hashing.murmur3_32_fixed().hashString(String.valueOf(Objects.requireNonNull(shardKey)), StandardCharsets.UTF_8).asInt();
+        return Math.floorMod(hash, shards);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.core.IShardStrategy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class RangeShardStrategy implements IShardStrategy {
+
+    private final List<Comparable<?>> upperBounds;
+
+    public RangeShardStrategy(List<? extends Comparable<?>> upperBounds) {
+        this.upperBounds = Collections.unmodifiableList(new ArrayList<>(upperBounds));
+    }
+
+    private static int compare(Object left, Object right) {
+        if (left instanceof Number && right instanceof Number) {
+            return new BigDecimal(left.toString()).compareTo(new BigDecimal(right.toString()));
+        }
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+
+    @Override
+    public int shard(Object shardKey, int shards) {
+        Objects.requireNonNull(shardKey);
+        for (int index = 0; index < upperBounds.size() && index < shards - 1; index++) {
+            if (compare(shardKey, upperBounds.get(index)) < 0) {
+                return index;
+            }
+        }
+        return Math.min(upperBounds.size(), shards - 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.core.LoadBalance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+public class ReadWriteDaoContextImpl extends DaoContextImpl {
+
+    private final List<Replica> replicas;
+    private final LoadBalance loadBalance;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final ThreadLocal<Long> lastWrite = new ThreadLocal<>();
+
+    private volatile long readYourWritesNanos = 0L;
+
+    public ReadWriteDaoContextImpl(DataSource primary, List<DataSource> replicas) {
+        this(primary, replicas, LoadBalance.ROUND_ROBIN);
+    }
+
+    public ReadWriteDaoContextImpl(DataSource primary, List<DataSource> replicas, LoadBalance loadBalance) {
+        super(primary);
+        this.replicas = Collections.unmodifiableList(replicas.stream().map(Replica::new).collect(Collectors.toList()));
+        this.loadBalance = Objects.requireNonNull(loadBalance);
+    }
+
+    public LoadBalance getLoadBalance() {
+        return loadBalance;
+    }
+
+    public long getReadYourWritesMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(readYourWritesNanos);
+    }
+
+    public void setReadYourWritesMillis(long readYourWritesMillis) {
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, readYourWritesMillis));
+    }
+
+    public int getOutstanding(int replicaIndex) {
+        return replicas.get(replicaIndex).outstanding.get();
+    }
+
+    @Override
+    public JdbcTemplate getJdbcTemplate() {
+        markWrite();
+        return super.getJdbcTemplate();
+    }
+
+    @Override
+    public NamedParameterJdbcTemplate getNamedJdbcTemplate() {
+        markWrite();
+        return super.getNamedJdbcTemplate();
+    }
+
+    @Override
+    protected JdbcTemplate getPrimaryJdbcTemplate() {
+        return super.getJdbcTemplate();
+    }
+
+    @Override
+    protected JdbcTemplate getReadJdbcTemplate() {
+        Replica replica = route();
+        return Objects.isNull(replica) ? super.getJdbcTemplate() : replica.jdbcTemplate;
+    }
+
+    @Override
+    protected DataSource getReadDataSource() {
+        Replica replica = route();
+        return Objects.isNull(replica) ? getDataSource() : replica.dataSource;
+    }
+
+    @Override
+    protected boolean canShareRead() {
+        return replicas.isEmpty() || !recentlyWritten();
+    }
+
+    private void markWrite() {
+        if (readYourWritesNanos > 0L) {
+            lastWrite.set(System.nanoTime());
+        }
+    }
+
+    private boolean recentlyWritten() {
+        Long time = lastWrite.get();
+        if (Objects.isNull(time)) {
+            return false;
+        }
+        if (System.nanoTime() - time < readYourWritesNanos) {
+            return true;
+        }
+        lastWrite.remove();
+        return false;
+    }
+
+    private Replica route() {
+        if (replicas.isEmpty() || TransactionSynchronizationManager.isActualTransactionActive() || recentlyWritten()) {
+            return null;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(sequence.getAndIncrement(), size);
+        if (loadBalance == LoadBalance.ROUND_ROBIN) {
+            return replicas.get(start);
+        }
+        Replica result = replicas.get(start);
+        for (int index = 1; index < size; index++) {
+            Replica replica = replicas.get((start + index) % size);
+            if (replica.outstanding.get() < result.outstanding.get()) {
+                result = replica;
+            }
+        }
+        return result;
+    }
+
+    private static final class Replica {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+
+        private Replica(DataSource target) {
+            this.dataSource = new DelegatingDataSource(Objects.requireNonNull(target)) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return track(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return track(super.getConnection(username, password));
+                }
+            };
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        private Connection track(Connection con) {
+            outstanding.incrementAndGet();
+            AtomicInteger closed = new AtomicInteger();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && closed.getAndIncrement() == 0) {
+                    outstanding.decrementAndGet();
+                }
+                try {
+                    return method.invoke(con, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
\ No newline at end of file
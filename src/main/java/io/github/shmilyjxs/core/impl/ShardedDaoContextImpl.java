@@ -0,0 +1,716 @@
+package io.github.shmilyjxs.core.impl;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Iterators;
+import io.github.shmilyjxs.core.InStrategy;
+import io.github.shmilyjxs.core.IShardStrategy;
+import io.github.shmilyjxs.core.ShardKey;
+import io.github.shmilyjxs.listener.ISqlListener;
+import io.github.shmilyjxs.utils.BeanUtil;
+import io.github.shmilyjxs.utils.KeysetResult;
+import io.github.shmilyjxs.utils.PageResult;
+import io.github.shmilyjxs.utils.SliceResult;
+import io.github.shmilyjxs.utils.TreeResult;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Triple;
+import org.intellij.lang.annotations.Language;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.util.ReflectionUtils;
+
+import javax.persistence.Table;
+import javax.sql.DataSource;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ShardedDaoContextImpl extends DaoContextImpl implements AutoCloseable {
+
+    private static final Pattern ORDER_BY = Pattern.compile("\\bORDER\\s+BY\\s+(.+)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final Pattern ORDER_ITEM = Pattern.compile("^([\\w$.\"`\\[\\]]+)(?:\\s+(ASC|DESC))?(?:\\s+NULLS\\s+(FIRST|LAST))?$", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern INSERT = Pattern.compile("^\\s*(INSERT|MERGE|REPLACE|UPSERT)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final List<DaoContextImpl> shards;
+    private final IShardStrategy shardStrategy;
+    private final ExecutorService ownedExecutor;
+    private final Map<Class<?>, Field> shardKeyCache = new ConcurrentHashMap<>();
+
+    public ShardedDaoContextImpl(List<DataSource> dataSources, IShardStrategy shardStrategy) {
+        this(dataSources, shardStrategy, null);
+    }
+
+    public ShardedDaoContextImpl(List<DataSource> dataSources, IShardStrategy shardStrategy, Executor executor) {
+        super(dataSources.get(0));
+        this.shards = Collections.unmodifiableList(dataSources.stream().map(DaoContextImpl::new).collect(Collectors.toList()));
+        this.shardStrategy = Objects.requireNonNull(shardStrategy);
+        this.ownedExecutor = Objects.isNull(executor) ? newExecutor(shards.size()) : null;
+        setQueryExecutor(Optional.ofNullable(executor).orElse(ownedExecutor));
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        setQueryExecutor(null);
+        Optional.ofNullable(ownedExecutor).ifPresent(ExecutorService::shutdown);
+    }
+
+    public List<DaoContextImpl> getShards() {
+        return shards;
+    }
+
+    public DaoContextImpl getShard(int index) {
+        return shards.get(index);
+    }
+
+    public IShardStrategy getShardStrategy() {
+        return shardStrategy;
+    }
+
+    @Override
+    public void addListener(ISqlListener listener) {
+        super.addListener(listener);
+        shards.forEach(e -> e.addListener(listener));
+    }
+
+    @Override
+    public void removeListener(ISqlListener listener) {
+        super.removeListener(listener);
+        shards.forEach(e -> e.removeListener(listener));
+    }
+
+    @Override
+    public void setSingleFlight(boolean singleFlight) {
+        super.setSingleFlight(singleFlight);
+        shards.forEach(e -> e.setSingleFlight(singleFlight));
+    }
+
+    @Override
+    public long getFlightCount() {
+        return shards.stream().mapToLong(DaoContextImpl::getFlightCount).sum();
+    }
+
+    @Override
+    public long getCollapsedCount() {
+        return shards.stream().mapToLong(DaoContextImpl::getCollapsedCount).sum();
+    }
+
+    @Override
+    public void setExplainThresholdMillis(long explainThresholdMillis) {
+        super.setExplainThresholdMillis(explainThresholdMillis);
+        shards.forEach(e -> e.setExplainThresholdMillis(explainThresholdMillis));
+    }
+
+    @Override
+    public void setExplainIntervalMillis(long explainIntervalMillis) {
+        super.setExplainIntervalMillis(explainIntervalMillis);
+        shards.forEach(e -> e.setExplainIntervalMillis(explainIntervalMillis));
+    }
+
+    @Override
+    public void clearPlans() {
+        super.clearPlans();
+        shards.forEach(DaoContextImpl::clearPlans);
+    }
+
+    @Override
+    public void setBatchSize(int batchSize) {
+        super.setBatchSize(batchSize);
+        shards.forEach(e -> e.setBatchSize(batchSize));
+    }
+
+    @Override
+    public void setInStrategy(InStrategy inStrategy) {
+        super.setInStrategy(inStrategy);
+        shards.forEach(e -> e.setInStrategy(inStrategy));
+    }
+
+    @Override
+    public void setMultiValues(boolean multiValues) {
+        super.setMultiValues(multiValues);
+        shards.forEach(e -> e.setMultiValues(multiValues));
+    }
+
+    @Override
+    public void enableTreeCache(String tableName, long maximumSize, long expireSeconds) {
+        shards.forEach(e -> e.enableTreeCache(tableName, maximumSize, expireSeconds));
+    }
+
+    @Override
+    public void disableTreeCache(String tableName) {
+        shards.forEach(e -> e.disableTreeCache(tableName));
+    }
+
+    @Override
+    public CacheStats getTreeCacheStats(String tableName) {
+        return shards.stream().map(e -> e.getTreeCacheStats(tableName)).reduce(CacheStats::plus).orElseGet(() -> super.getTreeCacheStats(tableName));
+    }
+
+    @Override
+    protected void evictTree(String tableName) {
+        shards.forEach(e -> e.evictTree(tableName));
+    }
+
+    @Override
+    public void enableCache(Class<?> clazz, long maximumSize, long expireSeconds) {
+        shards.forEach(e -> e.enableCache(clazz, maximumSize, expireSeconds));
+    }
+
+    @Override
+    public void disableCache(Class<?> clazz) {
+        shards.forEach(e -> e.disableCache(clazz));
+    }
+
+    @Override
+    public void invalidateCache(Class<?> clazz) {
+        shards.forEach(e -> e.invalidateCache(clazz));
+    }
+
+    @Override
+    public CacheStats getCacheStats(Class<?> clazz) {
+        return shards.stream().map(e -> e.getCacheStats(clazz)).reduce(CacheStats::plus).orElseGet(() -> super.getCacheStats(clazz));
+    }
+
+    @Override
+    public void enableBatchLoading(Class<?> clazz, int maxBatchSize, long windowMillis) {
+        shards.forEach(e -> e.enableBatchLoading(clazz, maxBatchSize, windowMillis));
+    }
+
+    @Override
+    public void disableBatchLoading(Class<?> clazz) {
+        shards.forEach(e -> e.disableBatchLoading(clazz));
+    }
+
+    @Override
+    public <T> Triple<String, Map.Entry<Field, String>, Map<String, String>> getTableInfo(Class<T> clazz) {
+        return shards.get(0).getTableInfo(clazz);
+    }
+
+    @Override
+    public void preload(Collection<Class<?>> classes) {
+        shards.forEach(e -> e.preload(classes));
+    }
+
+    private Field shardKeyField(Class<?> clazz) {
+        return shardKeyCache.computeIfAbsent(clazz, key -> {
+            Field field = Optional.ofNullable(BeanUtil.annotatedFiled(key, ShardKey.class)).orElseGet(() -> BeanUtil.idFiled(key));
+            ReflectionUtils.makeAccessible(field);
+            return field;
+        });
+    }
+
+    private boolean routedById(Class<?> clazz) {
+        return shardKeyField(clazz).equals(BeanUtil.idFiled(clazz));
+    }
+
+    private int shardOf(Class<?> clazz, Object shardKey) {
+        if (Objects.isNull(shardKey)) {
+            throw new IllegalArgumentException("shard key of " + clazz.getName() + " is null");
+        }
+        return shardStrategy.shard(shardKey, shards.size());
+    }
+
+    private DaoContextImpl route(Object obj) {
+        return shards.get(shardOf(obj.getClass(), ReflectionUtils.getField(shardKeyField(obj.getClass()), obj)));
+    }
+
+    private void generateId(Object obj) {
+        Field idField = getTableInfo(obj.getClass()).getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        if (ObjectUtils.isEmpty(ReflectionUtils.getField(idField, obj))) {
+            ReflectionUtils.setField(idField, obj, idGenerator(obj.getClass()));
+        }
+    }
+
+    private <T> Map<DaoContextImpl, List<T>> groupByShard(Collection<T> objs) {
+        Map<DaoContextImpl, List<T>> group = new LinkedHashMap<>();
+        objs.stream().filter(Objects::nonNull).forEach(e -> group.computeIfAbsent(route(e), key -> new ArrayList<>()).add(e));
+        return group;
+    }
+
+    private <ID> Map<DaoContextImpl, List<ID>> groupIdsByShard(Collection<ID> idValues, Class<?> mappedClass) {
+        Map<DaoContextImpl, List<ID>> group = new LinkedHashMap<>();
+        idValues.stream().filter(Objects::nonNull).forEach(e -> group.computeIfAbsent(shards.get(shardOf(mappedClass, e)), key -> new ArrayList<>()).add(e));
+        return group;
+    }
+
+    private <K, R> List<R> parallel(Map<K, ? extends Collection<?>> group, Function<K, R> action) {
+        return parallel(new ArrayList<>(group.keySet()), action);
+    }
+
+    private <K, R> List<R> parallel(List<K> keys, Function<K, R> action) {
+        if (keys.size() <= 1) {
+            return keys.stream().map(action).collect(Collectors.toList());
+        }
+        List<CompletableFuture<R>> futures = keys.stream().map(e -> supplyAsync(() -> action.apply(e))).collect(Collectors.toList());
+        if (futures.stream().anyMatch(Objects::isNull)) {
+            return keys.stream().map(action).collect(Collectors.toList());
+        }
+        return futures.stream().map(BaseNativeDao::join).collect(Collectors.toList());
+    }
+
+    private <R> List<R> scatter(Function<DaoContextImpl, R> action) {
+        return parallel(shards, action);
+    }
+
+    private static <T> List<T> concat(List<List<T>> lists) {
+        return lists.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private static String orderBy(String... sql) {
+        String joined = Optional.ofNullable(sql).map(e -> Arrays.stream(e).filter(StringUtils::isNotBlank).collect(Collectors.joining(" "))).orElse("");
+        Matcher matcher = ORDER_BY.matcher(joined);
+        String orderBy = null;
+        int start = 0;
+        while (matcher.find(start)) {
+            orderBy = matcher.group(1);
+            start = matcher.start(1);
+        }
+        if (Objects.nonNull(orderBy) && StringUtils.countMatches(orderBy, ')') > StringUtils.countMatches(orderBy, '(')) {
+            return null;
+        }
+        return orderBy;
+    }
+
+    private static <T> Comparator<T> comparator(Function<String, Function<T, Object>> accessor, String... sql) {
+        String orderBy = orderBy(sql);
+        if (StringUtils.isBlank(orderBy)) {
+            return null;
+        }
+        Comparator<T> result = null;
+        for (String item : orderBy.split(",")) {
+            Matcher matcher = ORDER_ITEM.matcher(item.trim());
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("order by item '" + item.trim() + "' cannot be merged across shards, order by selected columns only");
+            }
+            String column = StringUtils.substringAfterLast("." + matcher.group(1), ".").replaceAll("[\"`\\[\\]]", "");
+            boolean desc = "DESC".equalsIgnoreCase(matcher.group(2));
+            boolean nullsFirst = Optional.ofNullable(matcher.group(3)).map("FIRST"::equalsIgnoreCase).orElse(desc);
+            Comparator<Comparable<Object>> order = desc ? Comparator.<Comparable<Object>>naturalOrder().reversed() : Comparator.<Comparable<Object>>naturalOrder();
+            Function<T, Object> getter = accessor.apply(column);
+            Comparator<T> comparator = Comparator.comparing(e -> (Comparable<Object>) getter.apply(e), nullsFirst ? Comparator.nullsFirst(order) : Comparator.nullsLast(order));
+            result = Objects.isNull(result) ? comparator : result.thenComparing(comparator);
+        }
+        return result;
+    }
+
+    private <T> Function<String, Function<T, Object>> beanAccessor(Class<T> mappedClass) {
+        return column -> {
+            Map<String, String> columnMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            if (Objects.nonNull(AnnotationUtils.findAnnotation(mappedClass, Table.class))) {
+                getTableInfo(mappedClass).getRight().forEach((key, val) -> columnMap.put(val, key));
+            }
+            String property = Optional.ofNullable(columnMap.get(column)).orElseGet(() -> BeanUtil.dbToJava(column));
+            Method readMethod = Optional.ofNullable(BeanUtils.getPropertyDescriptor(mappedClass, property)).map(PropertyDescriptor::getReadMethod).orElse(null);
+            if (Objects.isNull(readMethod)) {
+                throw new IllegalArgumentException("order column " + column + " not mapped on " + mappedClass.getName());
+            }
+            ReflectionUtils.makeAccessible(readMethod);
+            return bean -> ReflectionUtils.invokeMethod(readMethod, bean);
+        };
+    }
+
+    private static Function<String, Function<Map<String, Object>, Object>> mapAccessor() {
+        return column -> map -> {
+            if (!map.containsKey(column)) {
+                throw new IllegalArgumentException("order column " + column + " is not in the select list");
+            }
+            return map.get(column);
+        };
+    }
+
+    private static IllegalStateException unsupported(String operation, String hint) {
+        return new IllegalStateException(operation + " cannot be merged across shards, " + hint);
+    }
+
+    private <T> Stream<T> mergeStream(Comparator<T> comparator, Function<DaoContextImpl, Stream<T>> query) {
+        List<Stream<T>> streams = new ArrayList<>(shards.size());
+        try {
+            shards.forEach(e -> streams.add(query.apply(e)));
+        } catch (RuntimeException e) {
+            streams.forEach(Stream::close);
+            throw e;
+        }
+        List<Iterator<T>> iterators = streams.stream().map(Stream::iterator).collect(Collectors.toList());
+        Iterator<T> iterator = Objects.isNull(comparator) ? Iterators.concat(iterators.iterator()) : Iterators.mergeSorted(iterators, comparator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(() -> streams.forEach(Stream::close));
+    }
+
+    private static <T> List<T> merge(List<List<T>> lists, Comparator<T> comparator, long offset, long limit) {
+        List<T> list = concat(lists);
+        Optional.ofNullable(comparator).ifPresent(list::sort);
+        return list.stream().skip(offset).limit(limit).collect(Collectors.toList());
+    }
+
+    private <T> PageResult<T> mergePage(long pageNum, long pageSize, Comparator<T> comparator, Function<DaoContextImpl, PageResult<T>> query) {
+        List<PageResult<T>> pages = scatter(query);
+        long total = pages.stream().mapToLong(PageResult::getTotal).sum();
+        if (pageNum <= 0L || pageSize <= 0L) {
+            return PageResult.of(pageNum, pageSize, total, Collections.emptyList());
+        }
+        List<List<T>> lists = pages.stream().map(PageResult::getRecords).collect(Collectors.toList());
+        return PageResult.of(pageNum, pageSize, total, merge(lists, comparator, (pageNum - 1L) * pageSize, pageSize));
+    }
+
+    private <T> SliceResult<T> mergeSlice(long pageNum, long pageSize, Comparator<T> comparator, Function<DaoContextImpl, SliceResult<T>> query) {
+        if (pageNum <= 0L || pageSize <= 0L) {
+            return SliceResult.of(pageNum, pageSize, false, Collections.emptyList());
+        }
+        List<SliceResult<T>> slices = scatter(query);
+        long offset = (pageNum - 1L) * pageSize;
+        List<T> records = merge(slices.stream().map(SliceResult::getRecords).collect(Collectors.toList()), comparator, offset, pageSize + 1L);
+        boolean hasNext = records.size() > pageSize || slices.stream().anyMatch(SliceResult::isHasNext);
+        return SliceResult.of(pageNum, pageSize, hasNext, records.stream().limit(pageSize).collect(Collectors.toList()));
+    }
+
+    private <T> KeysetResult<T> mergeKeyset(long pageSize, Object lastKey, Function<T, Object> keyGetter, Function<DaoContextImpl, KeysetResult<T>> query) {
+        List<KeysetResult<T>> keysets = scatter(query);
+        Comparator<T> comparator = Comparator.comparing(e -> (Comparable<Object>) keyGetter.apply(e), Comparator.nullsLast(Comparator.<Comparable<Object>>naturalOrder()));
+        List<T> records = merge(keysets.stream().map(KeysetResult::getRecords).collect(Collectors.toList()), comparator, 0L, pageSize + 1L);
+        boolean hasNext = records.size() > pageSize || keysets.stream().anyMatch(KeysetResult::isHasNext);
+        records = records.stream().limit(pageSize).collect(Collectors.toList());
+        Object nextKey = records.isEmpty() ? lastKey : keyGetter.apply(records.get(records.size() - 1));
+        return KeysetResult.of(pageSize, nextKey, hasNext, records);
+    }
+
+    private static long window(long pageNum, long pageSize) {
+        return pageNum <= 0L || pageSize <= 0L ? pageSize : pageNum * pageSize;
+    }
+
+    @Override
+    public <T> T scalar(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        throw unsupported("scalar " + sql, "use count or scalarList");
+    }
+
+    @Override
+    public <T> List<T> scalarList(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        if (Objects.nonNull(orderBy(sql))) {
+            throw unsupported("ordered scalarList " + sql, "use selectList");
+        }
+        return concat(scatter(shard -> shard.scalarList(sql, mappedClass, args)));
+    }
+
+    @Override
+    public long count(@Language("SQL") final String sql, Object... args) {
+        return scatter(shard -> shard.count(sql, args)).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public int nativeUpdate(@Language("SQL") final String sql, Object... args) {
+        if (INSERT.matcher(sql).find()) {
+            throw new IllegalStateException("statement " + sql + " cannot be routed to a shard, insert beans with a shard key instead");
+        }
+        return scatter(shard -> shard.nativeUpdate(sql, args)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public <T> List<T> selectBeans(@Language("SQL") final String sql, Class<T> mappedClass, Object... args) {
+        Comparator<T> comparator = comparator(beanAccessor(mappedClass), sql);
+        return merge(scatter(shard -> shard.selectBeans(sql, mappedClass, args)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public List<Map<String, Object>> selectList(@Language("SQL") final String sql, Object... args) {
+        Comparator<Map<String, Object>> comparator = comparator(mapAccessor(), sql);
+        return merge(scatter(shard -> shard.selectList(sql, args)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <T> PageResult<T> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
+        long window = window(pageNum, pageSize);
+        return mergePage(pageNum, pageSize, comparator(beanAccessor(mappedClass), sql), shard -> shard.selectPage(sql, 1L, window, mappedClass, args));
+    }
+
+    @Override
+    public PageResult<Map<String, Object>> selectPage(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
+        long window = window(pageNum, pageSize);
+        return mergePage(pageNum, pageSize, comparator(mapAccessor(), sql), shard -> shard.selectPage(sql, 1L, window, args));
+    }
+
+    @Override
+    public <T> SliceResult<T> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Class<T> mappedClass, Object... args) {
+        long window = window(pageNum, pageSize);
+        return mergeSlice(pageNum, pageSize, comparator(beanAccessor(mappedClass), sql), shard -> shard.selectSlice(sql, 1L, window, mappedClass, args));
+    }
+
+    @Override
+    public SliceResult<Map<String, Object>> selectSlice(@Language("SQL") final String sql, long pageNum, long pageSize, Object... args) {
+        long window = window(pageNum, pageSize);
+        return mergeSlice(pageNum, pageSize, comparator(mapAccessor(), sql), shard -> shard.selectSlice(sql, 1L, window, args));
+    }
+
+    @Override
+    public <T> KeysetResult<T> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Class<T> mappedClass, Object... args) {
+        Function<T, Object> keyGetter = beanAccessor(mappedClass).apply(keyColumn);
+        return mergeKeyset(pageSize, lastKey, keyGetter, shard -> shard.selectKeyset(sql, keyColumn, lastKey, pageSize, mappedClass, args));
+    }
+
+    @Override
+    public KeysetResult<Map<String, Object>> selectKeyset(@Language("SQL") final String sql, String keyColumn, Object lastKey, long pageSize, Object... args) {
+        return mergeKeyset(pageSize, lastKey, mapAccessor().apply(keyColumn), shard -> shard.selectKeyset(sql, keyColumn, lastKey, pageSize, args));
+    }
+
+    @Override
+    public <T> Stream<T> streamBeans(@Language("SQL") final String sql, int fetchSize, Class<T> mappedClass, Object... args) {
+        return mergeStream(comparator(beanAccessor(mappedClass), sql), shard -> shard.streamBeans(sql, fetchSize, mappedClass, args));
+    }
+
+    @Override
+    public Stream<Map<String, Object>> streamList(@Language("SQL") final String sql, int fetchSize, Object... args) {
+        return mergeStream(comparator(mapAccessor(), sql), shard -> shard.streamList(sql, fetchSize, args));
+    }
+
+    @Override
+    public int batchInsert(String tableName, Collection<String> columns, Iterator<? extends Map<String, ?>> iterator) {
+        throw new IllegalStateException("rows of " + tableName + " cannot be routed to a shard, insert beans with a shard key instead");
+    }
+
+    @Override
+    public int batchUpsert(String tableName, Collection<String> columns, String idColumn, Collection<Map<String, Object>> maps) {
+        throw new IllegalStateException("rows of " + tableName + " cannot be routed to a shard, upsert beans with a shard key instead");
+    }
+
+    @Override
+    public <C> int batchDelete(String tableName, String columnName, Collection<C> columnValues) {
+        return scatter(shard -> shard.batchDelete(tableName, columnName, columnValues)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public <T, C> List<T> getBeans(String tableName, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
+        Comparator<T> comparator = comparator(beanAccessor(mappedClass), lastSql);
+        return merge(scatter(shard -> shard.getBeans(tableName, columnName, columnValues, mappedClass, lastSql)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <T, C> List<T> getBeans(String tableName, Collection<String> columns, String columnName, Collection<C> columnValues, Class<T> mappedClass, String... lastSql) {
+        Comparator<T> comparator = comparator(beanAccessor(mappedClass), lastSql);
+        return merge(scatter(shard -> shard.getBeans(tableName, columns, columnName, columnValues, mappedClass, lastSql)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <C> List<Map<String, Object>> getList(String tableName, String columnName, Collection<C> columnValues, String... lastSql) {
+        Comparator<Map<String, Object>> comparator = comparator(mapAccessor(), lastSql);
+        return merge(scatter(shard -> shard.getList(tableName, columnName, columnValues, lastSql)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <T, C> List<T> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
+        throw unsupported("recursive query on " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <T, C> List<T> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, Class<T> mappedClass, String... lastSql) {
+        throw unsupported("recursive query on " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <C> List<Map<String, Object>> downRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
+        throw unsupported("recursive query on " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <C> List<Map<String, Object>> upRecursiveSql(String tableName, String startColumn, C columnValue, String joinColumn, String... lastSql) {
+        throw unsupported("recursive query on " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <T, C> TreeResult<T> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        throw unsupported("tree of " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <T, C> TreeResult<T> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth, Class<T> mappedClass) {
+        throw unsupported("tree of " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <C> TreeResult<Map<String, Object>> downTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        throw unsupported("tree of " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <C> TreeResult<Map<String, Object>> upTree(String tableName, String startColumn, C columnValue, String joinColumn, int maxDepth) {
+        throw unsupported("tree of " + tableName, "query a single shard through getShard");
+    }
+
+    @Override
+    public <T> int insert(T obj) {
+        generateId(obj);
+        return route(obj).insert(obj);
+    }
+
+    @Override
+    public void batchInsert(Collection<?> objs) {
+        objs.stream().filter(Objects::nonNull).forEach(this::generateId);
+        Map<DaoContextImpl, ? extends List<?>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.batchInsert(group.get(shard));
+            return null;
+        });
+    }
+
+    @Override
+    public <T> void batchInsert(Iterator<T> objs, Class<T> mappedClass) {
+        Iterators.partition(Iterators.filter(objs, Objects::nonNull), getBatchSize()).forEachRemaining(this::batchInsert);
+    }
+
+    @Override
+    public <T> int updateById(T obj, boolean skipBlank) {
+        return route(obj).updateById(obj, skipBlank);
+    }
+
+    @Override
+    public void batchUpdate(Collection<?> objs, boolean skipBlank) {
+        Map<DaoContextImpl, ? extends List<?>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.batchUpdate(group.get(shard), skipBlank);
+            return null;
+        });
+    }
+
+    @Override
+    public void bulkUpdate(Collection<?> objs, boolean skipBlank) {
+        Map<DaoContextImpl, ? extends List<?>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.bulkUpdate(group.get(shard), skipBlank);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> int insertOrUpdate(T obj) {
+        generateId(obj);
+        return route(obj).insertOrUpdate(obj);
+    }
+
+    @Override
+    public void batchInsertOrUpdate(Collection<?> objs) {
+        objs.stream().filter(Objects::nonNull).forEach(this::generateId);
+        Map<DaoContextImpl, ? extends List<?>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.batchInsertOrUpdate(group.get(shard));
+            return null;
+        });
+    }
+
+    @Override
+    public <T> int deleteById(T obj) {
+        return route(obj).deleteById(obj);
+    }
+
+    @Override
+    public void batchDelete(Collection<?> objs) {
+        Map<DaoContextImpl, ? extends List<?>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.batchDelete(group.get(shard));
+            return null;
+        });
+    }
+
+    @Override
+    public <T, ID> int delete(ID idValue, Class<T> mappedClass) {
+        if (routedById(mappedClass)) {
+            return shards.get(shardOf(mappedClass, idValue)).delete(idValue, mappedClass);
+        }
+        return scatter(shard -> shard.delete(idValue, mappedClass)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public <T, ID> int batchDelete(Collection<ID> idValues, Class<T> mappedClass) {
+        if (routedById(mappedClass)) {
+            Map<DaoContextImpl, List<ID>> group = groupIdsByShard(idValues, mappedClass);
+            return parallel(group, shard -> shard.batchDelete(group.get(shard), mappedClass)).stream().mapToInt(Integer::intValue).sum();
+        }
+        return scatter(shard -> shard.batchDelete(idValues, mappedClass)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public <T, ID> T getBean(ID idValue, Class<T> mappedClass) {
+        if (routedById(mappedClass)) {
+            return shards.get(shardOf(mappedClass, idValue)).getBean(idValue, mappedClass);
+        }
+        return DataAccessUtils.singleResult(scatter(shard -> shard.getBean(idValue, mappedClass)).stream().filter(Objects::nonNull).collect(Collectors.toList()));
+    }
+
+    @Override
+    public <T, ID> List<T> getBeans(Collection<ID> idValues, Class<T> mappedClass, String... lastSql) {
+        Comparator<T> comparator = comparator(beanAccessor(mappedClass), lastSql);
+        if (routedById(mappedClass)) {
+            Map<DaoContextImpl, List<ID>> group = groupIdsByShard(idValues, mappedClass);
+            return merge(parallel(group, shard -> shard.getBeans(group.get(shard), mappedClass, lastSql)), comparator, 0L, Long.MAX_VALUE);
+        }
+        return merge(scatter(shard -> shard.getBeans(idValues, mappedClass, lastSql)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <T> int delete(T example) {
+        return scatter(shard -> shard.delete(example)).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public <T> T getBean(T example) {
+        return DataAccessUtils.singleResult(scatter(shard -> shard.getBean(example)).stream().filter(Objects::nonNull).collect(Collectors.toList()));
+    }
+
+    @Override
+    public <T> List<T> getBeans(T example, String... lastSql) {
+        Comparator<T> comparator = comparator(beanAccessor((Class<T>) example.getClass()), lastSql);
+        return merge(scatter(shard -> shard.getBeans(example, lastSql)), comparator, 0L, Long.MAX_VALUE);
+    }
+
+    @Override
+    public <T> PageResult<T> getPage(T example, long pageNum, long pageSize, String... lastSql) {
+        long window = window(pageNum, pageSize);
+        return mergePage(pageNum, pageSize, comparator(beanAccessor((Class<T>) example.getClass()), lastSql), shard -> shard.getPage(example, 1L, window, lastSql));
+    }
+
+    @Override
+    public <T> void loadLazy(Collection<T> objs, String... properties) {
+        Map<DaoContextImpl, List<T>> group = groupByShard(objs);
+        parallel(group, shard -> {
+            shard.loadLazy(group.get(shard), properties);
+            return null;
+        });
+    }
+
+    @Override
+    public <T> SliceResult<T> getSlice(T example, long pageNum, long pageSize, String... lastSql) {
+        long window = window(pageNum, pageSize);
+        return mergeSlice(pageNum, pageSize, comparator(beanAccessor((Class<T>) example.getClass()), lastSql), shard -> shard.getSlice(example, 1L, window, lastSql));
+    }
+
+    @Override
+    public <T, ID> KeysetResult<T> getKeyset(T example, ID lastId, long pageSize) {
+        Field idField = getTableInfo(example).getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        return mergeKeyset(pageSize, lastId, e -> ReflectionUtils.getField(idField, e), shard -> shard.getKeyset(example, lastId, pageSize));
+    }
+
+    @Override
+    public <T> KeysetResult<T> getKeyset(T example, String keyProperty, Object lastKey, long pageSize) {
+        Field keyField = Objects.requireNonNull(ReflectionUtils.findField(example.getClass(), keyProperty));
+        ReflectionUtils.makeAccessible(keyField);
+        return mergeKeyset(pageSize, lastKey, e -> ReflectionUtils.getField(keyField, e), shard -> shard.getKeyset(example, keyProperty, lastKey, pageSize));
+    }
+}
\ No newline at end of file
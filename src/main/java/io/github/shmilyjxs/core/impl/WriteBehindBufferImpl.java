@@ -0,0 +1,393 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.core.IBeanDao;
+import io.github.shmilyjxs.core.IWriteBehindBuffer;
+import io.github.shmilyjxs.utils.BeanExtractor;
+import io.github.shmilyjxs.utils.LoadState;
+import org.apache.commons.lang3.ObjectUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class WriteBehindBufferImpl implements IWriteBehindBuffer, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindBufferImpl.class);
+
+    private final IBeanDao beanDao;
+    private final int flushSize;
+    private final int capacity;
+    private final ScheduledExecutorService scheduler;
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Lock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushed = new AtomicLong();
+
+    private Map<Class<?>, Batch> batches = new LinkedHashMap<>();
+    private int size = 0;
+    private volatile boolean closed = false;
+    private volatile long offerTimeoutNanos = TimeUnit.SECONDS.toNanos(30L);
+    private volatile int maxRetries = 3;
+    private volatile Function<Class<?>, Object> idGenerator;
+    private volatile BiConsumer<List<?>, RuntimeException> errorHandler = (objs, e) -> logger.error("write-behind flush of {} objects failed", objs.size(), e);
+
+    public WriteBehindBufferImpl(IBeanDao beanDao) {
+        this(beanDao, 1000, 1000L, 10000);
+    }
+
+    public WriteBehindBufferImpl(IBeanDao beanDao, int flushSize, long flushIntervalMillis, int capacity) {
+        this.beanDao = Objects.requireNonNull(beanDao);
+        this.flushSize = Math.max(1, flushSize);
+        this.capacity = Math.max(this.flushSize, capacity);
+        this.idGenerator = beanDao instanceof BaseBeanDao ? ((BaseBeanDao) beanDao)::idGenerator : clazz -> null;
+        ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = threadFactory.newThread(runnable);
+            thread.setName("write-behind-" + thread.getName());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1L, flushIntervalMillis);
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public long getOfferTimeoutMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(offerTimeoutNanos);
+    }
+
+    public void setOfferTimeoutMillis(long offerTimeoutMillis) {
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, offerTimeoutMillis));
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = Math.max(0, maxRetries);
+    }
+
+    public void setIdGenerator(Function<Class<?>, Object> idGenerator) {
+        this.idGenerator = Objects.requireNonNull(idGenerator);
+    }
+
+    public void setErrorHandler(BiConsumer<List<?>, RuntimeException> errorHandler) {
+        this.errorHandler = Objects.requireNonNull(errorHandler);
+    }
+
+    @Override
+    public IBeanDao getBeanDao() {
+        return beanDao;
+    }
+
+    private static <T> T copyBean(T obj) {
+        T copy = (T) BeanUtils.instantiateClass(obj.getClass());
+        BeanUtils.copyProperties(obj, copy);
+        LoadState.copy(obj, copy);
+        return copy;
+    }
+
+    private static void merge(Object target, Object source) {
+        for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(source.getClass())) {
+            if (Objects.nonNull(pd.getReadMethod()) && Objects.nonNull(pd.getWriteMethod())) {
+                Object value = ReflectionUtils.invokeMethod(pd.getReadMethod(), source);
+                if (!BeanExtractor.isBlank(value)) {
+                    ReflectionUtils.invokeMethod(pd.getWriteMethod(), target, value);
+                }
+            }
+        }
+    }
+
+    private Field idField(Class<?> clazz) {
+        Field idField = beanDao.getTableInfo(clazz).getMiddle().getKey();
+        ReflectionUtils.makeAccessible(idField);
+        return idField;
+    }
+
+    private Object idValue(Object obj) {
+        return ReflectionUtils.getField(idField(obj.getClass()), obj);
+    }
+
+    private void offer(Object obj, Object idValue, Pending pending) {
+        lock.lock();
+        try {
+            long nanos = offerTimeoutNanos;
+            while (!closed && size >= capacity) {
+                requestFlush();
+                if (nanos <= 0L) {
+                    throw new IllegalStateException("write-behind buffer is full");
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            if (closed) {
+                throw new IllegalStateException("write-behind buffer is closed");
+            }
+            Batch batch = batches.computeIfAbsent(obj.getClass(), e -> new Batch());
+            if (Objects.isNull(idValue)) {
+                batch.inserts.add(pending);
+                size++;
+            } else {
+                Pending previous = batch.keyed.get(idValue);
+                if (Objects.isNull(previous)) {
+                    batch.keyed.put(idValue, pending);
+                    size++;
+                } else {
+                    batch.keyed.put(idValue, previous.coalesce(pending));
+                    coalesced.incrementAndGet();
+                }
+            }
+            if (size >= flushSize) {
+                requestFlush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for write-behind buffer", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    @Override
+    public <T> void insert(T obj) {
+        Field idField = idField(obj.getClass());
+        Object idValue = ReflectionUtils.getField(idField, obj);
+        if (ObjectUtils.isEmpty(idValue)) {
+            idValue = idGenerator.apply(obj.getClass());
+            if (Objects.nonNull(idValue)) {
+                ReflectionUtils.setField(idField, obj, idValue);
+            }
+        }
+        offer(obj, ObjectUtils.isEmpty(idValue) ? null : idValue, new Pending(copyBean(obj), Kind.INSERT));
+    }
+
+    @Override
+    public <T> void updateById(T obj, boolean skipBlank) {
+        Object idValue = Objects.requireNonNull(idValue(obj), "id");
+        offer(obj, idValue, new Pending(copyBean(obj), skipBlank ? Kind.PATCH : Kind.UPDATE));
+    }
+
+    private Map<Class<?>, Batch> drain() {
+        lock.lock();
+        try {
+            flushRequested.set(false);
+            Map<Class<?>, Batch> drained = batches;
+            batches = new LinkedHashMap<>();
+            size = 0;
+            notFull.signalAll();
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Object> objs, boolean insert, boolean skipBlank, boolean retry) {
+        if (!objs.isEmpty()) {
+            if (insert && retry) {
+                beanDao.batchInsertOrUpdate(objs);
+            } else if (insert) {
+                beanDao.batchInsert(objs);
+            } else {
+                beanDao.batchUpdate(objs, skipBlank);
+            }
+            flushed.addAndGet(objs.size());
+        }
+    }
+
+    private List<Pending> requeue(Class<?> clazz, List<Pending> pendings) {
+        List<Pending> exhausted = new ArrayList<>();
+        lock.lock();
+        try {
+            Batch batch = batches.computeIfAbsent(clazz, e -> new Batch());
+            List<Pending> inserts = new ArrayList<>();
+            for (Pending pending : pendings) {
+                if (closed || ++pending.attempts > maxRetries) {
+                    exhausted.add(pending);
+                    continue;
+                }
+                Object idValue = idValue(pending.obj);
+                if (ObjectUtils.isEmpty(idValue)) {
+                    inserts.add(pending);
+                    size++;
+                } else {
+                    Pending current = batch.keyed.get(idValue);
+                    if (Objects.isNull(current)) {
+                        size++;
+                    }
+                    Pending merged = Objects.isNull(current) ? pending : pending.coalesce(current);
+                    merged.attempts = Math.max(merged.attempts, pending.attempts);
+                    batch.keyed.put(idValue, merged);
+                }
+            }
+            batch.inserts.addAll(0, inserts);
+        } finally {
+            lock.unlock();
+        }
+        return exhausted;
+    }
+
+    private void writeEach(List<Pending> pendings, Kind kind, boolean single, RuntimeException cause) {
+        for (Pending pending : pendings) {
+            RuntimeException error = cause;
+            if (single) {
+                try {
+                    write(Collections.singletonList(pending.obj), kind == Kind.INSERT, kind == Kind.PATCH, true);
+                    continue;
+                } catch (RuntimeException e) {
+                    error = e;
+                }
+            }
+            errorHandler.accept(Collections.singletonList(pending.obj), error);
+        }
+    }
+
+    private void flush(boolean rethrow) {
+        RuntimeException failure = null;
+        flushLock.lock();
+        try {
+            for (Map.Entry<Class<?>, Batch> entry : drain().entrySet()) {
+                List<Pending> pendings = new ArrayList<>(entry.getValue().inserts);
+                pendings.addAll(entry.getValue().keyed.values());
+                Map<Kind, List<Pending>> group = pendings.stream().collect(Collectors.groupingBy(e -> e.kind, () -> new EnumMap<>(Kind.class), Collectors.toList()));
+                for (Kind kind : Kind.values()) {
+                    List<Pending> kindPendings = group.getOrDefault(kind, Collections.emptyList());
+                    List<Object> objs = kindPendings.stream().map(e -> e.obj).collect(Collectors.toList());
+                    try {
+                        write(objs, kind == Kind.INSERT, kind == Kind.PATCH, kindPendings.stream().anyMatch(e -> e.attempts > 0));
+                    } catch (RuntimeException e) {
+                        List<Pending> exhausted = requeue(entry.getKey(), kindPendings);
+                        if (exhausted.size() < kindPendings.size()) {
+                            logger.warn("write-behind flush of {} objects failed, retrying {}", objs.size(), kindPendings.size() - exhausted.size(), e);
+                        }
+                        writeEach(exhausted, kind, objs.size() > 1, e);
+                        if (!rethrow) {
+                            continue;
+                        }
+                        if (Objects.isNull(failure)) {
+                            failure = e;
+                        } else {
+                            failure.addSuppressed(e);
+                        }
+                    }
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush(false);
+        } catch (RuntimeException e) {
+            logger.error("write-behind flush failed", e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        flush(true);
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    @Override
+    public long getFlushed() {
+        return flushed.get();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private enum Kind {
+        INSERT, UPDATE, PATCH
+    }
+
+    private static final class Pending {
+
+        private final Object obj;
+        private final Kind kind;
+        private int attempts = 0;
+
+        private Pending(Object obj, Kind kind) {
+            this.obj = obj;
+            this.kind = kind;
+        }
+
+        private Pending coalesce(Pending next) {
+            if (next.kind == Kind.INSERT) {
+                return next;
+            }
+            if (next.kind == Kind.UPDATE) {
+                return kind == Kind.INSERT ? new Pending(next.obj, Kind.INSERT) : next;
+            }
+            merge(obj, next.obj);
+            return this;
+        }
+    }
+
+    private static final class Batch {
+
+        private final List<Pending> inserts = new ArrayList<>();
+        private final Map<Object, Pending> keyed = new LinkedHashMap<>();
+    }
+}
\ No newline at end of file
@@ -5,7 +5,8 @@ import java.util.Arrays;
 public enum DBType {
     ORACLE("Oracle", new OracleDialect()),
     MYSQL("MySQL", new MySQLDialect()),
-    POSTGRESQL("PostgreSQL", new PostgreSQLDialect());
+    POSTGRESQL("PostgreSQL", new PostgreSQLDialect()),
+    H2("H2", new H2Dialect());
 
     private final String productName;
     private final IDialect dialect;
@@ -2,13 +2,66 @@ package io.github.shmilyjxs.dialects;
 
 import org.intellij.lang.annotations.Language;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 public interface IDialect {
 
+    String DEPTH_COLUMN = "jdb_depth";
+
     String pageSql(@Language("SQL") final String sql, long offset, long limit);
 
+    String keysetSql(@Language("SQL") final String sql, String keyColumn, boolean first, long limit);
+
+    String batchInsertSql(String tableName, Collection<String> columns, int rows);
+
+    int maxBindParameters();
+
+    int maxBatchInsertRows(int columns);
+
+    String upsertSql(String tableName, Collection<String> columns, String idColumn);
+
+    String bulkUpdateSql(String tableName, String idColumn, Collection<String> columns, Map<String, String> columnTypes, int rows, boolean skipBlank);
+
+    String arrayTypeName(Class<?> elementType);
+
+    String anyArraySql(String column);
+
+    String tempTableSql(String tempTable, String tableName, String column);
+
+    String dropTempTableSql(String tempTable);
+
+    boolean tempTableCommits();
+
+    int streamFetchSize(int fetchSize);
+
+    boolean streamNeedsTransaction();
+
+    String sequenceSql(String sequenceName);
+
+    String explainSql(@Language("SQL") final String sql);
+
+    String explainOutputSql();
+
     String columnSql(String tableName);
 
-    String downRecursiveSql(String tableName, String startColumn, String joinColumn);
+    String columnTypesSql(String tableName);
+
+    String columnsSql(Collection<String> tableNames);
+
+    boolean supportsRecursive(int majorVersion);
+
+    String treeSql(String tableName, Collection<String> columns, String startColumn, String joinColumn, boolean down, int maxDepth);
+
+    String downRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn);
+
+    String upRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn);
 
-    String upRecursiveSql(String tableName, String startColumn, String joinColumn);
+    default String selectColumns(String alias, Collection<String> columns) {
+        if (columns.isEmpty()) {
+            return alias + "*";
+        }
+        return columns.stream().map(alias::concat).collect(Collectors.joining(" , "));
+    }
 }
\ No newline at end of file
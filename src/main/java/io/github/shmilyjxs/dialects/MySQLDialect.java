@@ -1,7 +1,15 @@
 package io.github.shmilyjxs.dialects;
 
+import io.github.shmilyjxs.utils.SqlUtil;
 import org.intellij.lang.annotations.Language;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public class MySQLDialect implements IDialect {
 
     @Override
@@ -16,18 +24,160 @@ public class MySQLDialect implements IDialect {
         return stringBuilder.toString();
     }
 
+    @Override
+    public String keysetSql(@Language("SQL") final String sql, String keyColumn, boolean first, long limit) {
+        String keysetSql = SqlUtil.keysetSql(sql, keyColumn, first);
+        if (Objects.nonNull(keysetSql)) {
+            return keysetSql + " LIMIT " + limit;
+        }
+        StringBuilder stringBuilder = new StringBuilder("SELECT * FROM ( ");
+        stringBuilder.append(sql);
+        stringBuilder.append(" ) tmp");
+        if (!first) {
+            stringBuilder.append(" WHERE ").append(keyColumn).append(" > ?");
+        }
+        stringBuilder.append(" ORDER BY ").append(keyColumn);
+        stringBuilder.append(" LIMIT ").append(limit);
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String batchInsertSql(String tableName, Collection<String> columns, int rows) {
+        StringBuilder stringBuilder = new StringBuilder("INSERT INTO ");
+        stringBuilder.append(tableName);
+        stringBuilder.append(columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
+        stringBuilder.append("VALUES ");
+        String values = columns.stream().map(e -> "?").collect(Collectors.joining(" , ", "( ", " )"));
+        stringBuilder.append(String.join(" , ", Collections.nCopies(rows, values)));
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int maxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public int maxBatchInsertRows(int columns) {
+        return Math.max(1, maxBindParameters() / columns);
+    }
+
+    @Override
+    public String upsertSql(String tableName, Collection<String> columns, String idColumn) {
+        StringBuilder stringBuilder = new StringBuilder("INSERT INTO ");
+        stringBuilder.append(tableName);
+        stringBuilder.append(columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
+        stringBuilder.append("VALUES");
+        stringBuilder.append(columns.stream().map(e -> "?").collect(Collectors.joining(" , ", " ( ", " ) ")));
+        stringBuilder.append("ON DUPLICATE KEY UPDATE ");
+        String sets = columns.stream().filter(e -> !e.equalsIgnoreCase(idColumn)).map(e -> e + " = VALUES(" + e + ")").collect(Collectors.joining(" , "));
+        stringBuilder.append(sets.isEmpty() ? idColumn + " = " + idColumn : sets);
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String bulkUpdateSql(String tableName, String idColumn, Collection<String> columns, Map<String, String> columnTypes, int rows, boolean skipBlank) {
+        StringBuilder stringBuilder = new StringBuilder("UPDATE ");
+        stringBuilder.append(tableName);
+        stringBuilder.append(" tgt JOIN ( SELECT ");
+        stringBuilder.append(Stream.concat(Stream.of(idColumn), columns.stream()).map(e -> "? AS " + e).collect(Collectors.joining(" , ")));
+        String select = Stream.concat(Stream.of(idColumn), columns.stream()).map(e -> "?").collect(Collectors.joining(" , ", " UNION ALL SELECT ", ""));
+        stringBuilder.append(String.join("", Collections.nCopies(rows - 1, select)));
+        stringBuilder.append(" ) src ON tgt.").append(idColumn).append(" = src.").append(idColumn);
+        stringBuilder.append(" SET ");
+        stringBuilder.append(columns.stream().map(e -> "tgt." + e + " = " + (skipBlank ? "COALESCE(src." + e + " , tgt." + e + ")" : "src." + e)).collect(Collectors.joining(" , ")));
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String arrayTypeName(Class<?> elementType) {
+        return null;
+    }
+
+    @Override
+    public String anyArraySql(String column) {
+        return null;
+    }
+
+    @Override
+    public String tempTableSql(String tempTable, String tableName, String column) {
+        return "CREATE TEMPORARY TABLE " + tempTable + " AS SELECT " + column + " FROM " + tableName + " WHERE 1 = 0";
+    }
+
+    @Override
+    public String dropTempTableSql(String tempTable) {
+        return "DROP TEMPORARY TABLE IF EXISTS " + tempTable;
+    }
+
+    @Override
+    public boolean tempTableCommits() {
+        return false;
+    }
+
+    @Override
+    public int streamFetchSize(int fetchSize) {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public boolean streamNeedsTransaction() {
+        return false;
+    }
+
+    @Override
+    public String sequenceSql(String sequenceName) {
+        return null;
+    }
+
+    @Override
+    public String explainSql(@Language("SQL") final String sql) {
+        return "EXPLAIN FORMAT=JSON " + sql;
+    }
+
+    @Override
+    public String explainOutputSql() {
+        return null;
+    }
+
     @Override
     public String columnSql(String tableName) {
-        return "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = '" + tableName + "' ORDER BY ORDINAL_POSITION";
+        return "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = '" + tableName + "' ORDER BY ORDINAL_POSITION";
+    }
+
+    @Override
+    public String columnTypesSql(String tableName) {
+        return null;
+    }
+
+    @Override
+    public String columnsSql(Collection<String> tableNames) {
+        return "SELECT TABLE_NAME , COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN " + tableNames.stream().map(e -> "'" + e + "'").collect(Collectors.joining(" , ", "( ", " )")) + " ORDER BY TABLE_NAME , ORDINAL_POSITION";
+    }
+
+    @Override
+    public boolean supportsRecursive(int majorVersion) {
+        return majorVersion >= 8;
+    }
+
+    @Override
+    public String treeSql(String tableName, Collection<String> columns, String startColumn, String joinColumn, boolean down, int maxDepth) {
+        String on = down ? "deep." + joinColumn + " = cte." + startColumn : "deep." + startColumn + " = cte." + joinColumn;
+        StringBuilder stringBuilder = new StringBuilder("WITH RECURSIVE cte AS ( SELECT " + selectColumns("t.", columns) + " , 0 AS " + DEPTH_COLUMN + " FROM " + tableName + " t WHERE t." + startColumn + " = ?");
+        stringBuilder.append(" UNION ALL SELECT ").append(selectColumns("deep.", columns)).append(" , cte.").append(DEPTH_COLUMN).append(" + 1 FROM ").append(tableName).append(" deep JOIN cte ON ").append(on);
+        if (maxDepth >= 0) {
+            stringBuilder.append(" WHERE cte.").append(DEPTH_COLUMN).append(" < ").append(maxDepth);
+        }
+        stringBuilder.append(" ) SELECT * FROM cte");
+        return stringBuilder.toString();
     }
 
     @Override
-    public String downRecursiveSql(String tableName, String startColumn, String joinColumn) {
-        return "WITH RECURSIVE cte AS ( SELECT * FROM " + tableName + " WHERE " + startColumn + " = ? UNION ALL SELECT deep.* FROM " + tableName + " deep JOIN cte ON deep." + joinColumn + " = cte." + startColumn + " ) SELECT * FROM cte";
+    public String downRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn) {
+        return "WITH RECURSIVE cte AS ( SELECT " + selectColumns("t.", columns) + " FROM " + tableName + " t WHERE t." + startColumn + " = ? UNION ALL SELECT " + selectColumns("deep.", columns) + " FROM " + tableName + " deep JOIN cte ON deep." + joinColumn + " = cte." + startColumn + " ) SELECT * FROM cte";
     }
 
     @Override
-    public String upRecursiveSql(String tableName, String startColumn, String joinColumn) {
-        return "WITH RECURSIVE cte AS ( SELECT * FROM " + tableName + " WHERE " + startColumn + " = ? UNION ALL SELECT deep.* FROM " + tableName + " deep JOIN cte ON deep." + startColumn + " = cte." + joinColumn + " ) SELECT * FROM cte";
+    public String upRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn) {
+        return "WITH RECURSIVE cte AS ( SELECT " + selectColumns("t.", columns) + " FROM " + tableName + " t WHERE t." + startColumn + " = ? UNION ALL SELECT " + selectColumns("deep.", columns) + " FROM " + tableName + " deep JOIN cte ON deep." + startColumn + " = cte." + joinColumn + " ) SELECT * FROM cte";
     }
 }
\ No newline at end of file
@@ -1,26 +1,180 @@
 package io.github.shmilyjxs.dialects;
 
+import io.github.shmilyjxs.utils.SqlUtil;
 import org.intellij.lang.annotations.Language;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public class OracleDialect implements IDialect {
 
+    private static final String EXPLAIN_ID = "jdb_explain";
+
     @Override
     public String pageSql(@Language("SQL") final String sql, long offset, long limit) {
         return "SELECT * FROM ( SELECT tmp.* , ROWNUM ROW_ID FROM ( " + sql + " ) tmp WHERE ROWNUM <= " + (offset + limit) + ") WHERE ROW_ID > " + offset;
     }
 
+    @Override
+    public String keysetSql(@Language("SQL") final String sql, String keyColumn, boolean first, long limit) {
+        String keysetSql = SqlUtil.keysetSql(sql, keyColumn, first);
+        if (Objects.nonNull(keysetSql)) {
+            return "SELECT * FROM ( " + keysetSql + " ) WHERE ROWNUM <= " + limit;
+        }
+        StringBuilder stringBuilder = new StringBuilder("SELECT * FROM ( SELECT * FROM ( ");
+        stringBuilder.append(sql);
+        stringBuilder.append(" ) tmp");
+        if (!first) {
+            stringBuilder.append(" WHERE ").append(keyColumn).append(" > ?");
+        }
+        stringBuilder.append(" ORDER BY ").append(keyColumn);
+        stringBuilder.append(" ) WHERE ROWNUM <= ").append(limit);
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String batchInsertSql(String tableName, Collection<String> columns, int rows) {
+        StringBuilder stringBuilder = new StringBuilder("INSERT ALL");
+        String into = " INTO " + tableName + columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")) + "VALUES" + columns.stream().map(e -> "?").collect(Collectors.joining(" , ", " ( ", " )"));
+        stringBuilder.append(String.join("", Collections.nCopies(rows, into)));
+        stringBuilder.append(" SELECT 1 FROM DUAL");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public int maxBindParameters() {
+        return 65535;
+    }
+
+    @Override
+    public int maxBatchInsertRows(int columns) {
+        return Math.max(1, 999 / columns);
+    }
+
+    @Override
+    public String upsertSql(String tableName, Collection<String> columns, String idColumn) {
+        StringBuilder stringBuilder = new StringBuilder("MERGE INTO ");
+        stringBuilder.append(tableName);
+        stringBuilder.append(" tgt USING ( SELECT ");
+        stringBuilder.append(columns.stream().map(e -> "? " + e).collect(Collectors.joining(" , ")));
+        stringBuilder.append(" FROM DUAL ) src ON ( tgt.").append(idColumn).append(" = src.").append(idColumn).append(" )");
+        String sets = columns.stream().filter(e -> !e.equalsIgnoreCase(idColumn)).map(e -> "tgt." + e + " = src." + e).collect(Collectors.joining(" , "));
+        if (!sets.isEmpty()) {
+            stringBuilder.append(" WHEN MATCHED THEN UPDATE SET ").append(sets);
+        }
+        stringBuilder.append(" WHEN NOT MATCHED THEN INSERT");
+        stringBuilder.append(columns.stream().collect(Collectors.joining(" , ", " ( ", " ) ")));
+        stringBuilder.append("VALUES");
+        stringBuilder.append(columns.stream().map(e -> "src." + e).collect(Collectors.joining(" , ", " ( ", " )")));
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String bulkUpdateSql(String tableName, String idColumn, Collection<String> columns, Map<String, String> columnTypes, int rows, boolean skipBlank) {
+        StringBuilder stringBuilder = new StringBuilder("MERGE INTO ");
+        stringBuilder.append(tableName);
+        stringBuilder.append(" tgt USING ( SELECT ");
+        stringBuilder.append(Stream.concat(Stream.of(idColumn), columns.stream()).map(e -> "? " + e).collect(Collectors.joining(" , ")));
+        stringBuilder.append(" FROM DUAL");
+        String select = Stream.concat(Stream.of(idColumn), columns.stream()).map(e -> "?").collect(Collectors.joining(" , ", " UNION ALL SELECT ", " FROM DUAL"));
+        stringBuilder.append(String.join("", Collections.nCopies(rows - 1, select)));
+        stringBuilder.append(" ) src ON ( tgt.").append(idColumn).append(" = src.").append(idColumn).append(" )");
+        stringBuilder.append(" WHEN MATCHED THEN UPDATE SET ");
+        stringBuilder.append(columns.stream().map(e -> "tgt." + e + " = " + (skipBlank ? "COALESCE(src." + e + " , tgt." + e + ")" : "src." + e)).collect(Collectors.joining(" , ")));
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public String arrayTypeName(Class<?> elementType) {
+        return null;
+    }
+
+    @Override
+    public String anyArraySql(String column) {
+        return null;
+    }
+
+    @Override
+    public String tempTableSql(String tempTable, String tableName, String column) {
+        return null;
+    }
+
+    @Override
+    public String dropTempTableSql(String tempTable) {
+        return null;
+    }
+
+    @Override
+    public boolean tempTableCommits() {
+        return true;
+    }
+
+    @Override
+    public int streamFetchSize(int fetchSize) {
+        return fetchSize;
+    }
+
+    @Override
+    public boolean streamNeedsTransaction() {
+        return false;
+    }
+
+    @Override
+    public String sequenceSql(String sequenceName) {
+        return "SELECT " + sequenceName + ".NEXTVAL FROM DUAL";
+    }
+
+    @Override
+    public String explainSql(@Language("SQL") final String sql) {
+        return "EXPLAIN PLAN SET STATEMENT_ID = '" + EXPLAIN_ID + "' FOR " + sql;
+    }
+
+    @Override
+    public String explainOutputSql() {
+        return "SELECT PLAN_TABLE_OUTPUT FROM TABLE(DBMS_XPLAN.DISPLAY(NULL, '" + EXPLAIN_ID + "', 'TYPICAL'))";
+    }
+
     @Override
     public String columnSql(String tableName) {
-        return "SELECT COLUMN_NAME FROM USER_TAB_COLUMNS WHERE TABLE_NAME = '" + tableName.toUpperCase() + "' ORDER BY COLUMN_ID";
+        return "SELECT COLUMN_NAME FROM ALL_TAB_COLUMNS WHERE OWNER = SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') AND TABLE_NAME = '" + tableName.toUpperCase() + "' ORDER BY COLUMN_ID";
+    }
+
+    @Override
+    public String columnTypesSql(String tableName) {
+        return null;
+    }
+
+    @Override
+    public String columnsSql(Collection<String> tableNames) {
+        return "SELECT TABLE_NAME , COLUMN_NAME FROM ALL_TAB_COLUMNS WHERE OWNER = SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') AND TABLE_NAME IN " + tableNames.stream().map(e -> "'" + e.toUpperCase() + "'").collect(Collectors.joining(" , ", "( ", " )")) + " ORDER BY TABLE_NAME , COLUMN_ID";
+    }
+
+    @Override
+    public boolean supportsRecursive(int majorVersion) {
+        return true;
+    }
+
+    @Override
+    public String treeSql(String tableName, Collection<String> columns, String startColumn, String joinColumn, boolean down, int maxDepth) {
+        StringBuilder stringBuilder = new StringBuilder("SELECT " + selectColumns("t.", columns) + " , LEVEL - 1 AS " + DEPTH_COLUMN + " FROM " + tableName + " t START WITH t." + startColumn + " = ? CONNECT BY ");
+        stringBuilder.append(down ? "PRIOR t." + startColumn + " = t." + joinColumn : "t." + startColumn + " = PRIOR t." + joinColumn);
+        if (maxDepth >= 0) {
+            stringBuilder.append(" AND LEVEL <= ").append(maxDepth + 1);
+        }
+        return stringBuilder.toString();
     }
 
     @Override
-    public String downRecursiveSql(String tableName, String startColumn, String joinColumn) {
-        return "SELECT * FROM " + tableName + " START WITH " + startColumn + " = ? CONNECT BY PRIOR " + startColumn + " = " + joinColumn;
+    public String downRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn) {
+        return "SELECT " + selectColumns("t.", columns) + " FROM " + tableName + " t START WITH t." + startColumn + " = ? CONNECT BY PRIOR t." + startColumn + " = t." + joinColumn;
     }
 
     @Override
-    public String upRecursiveSql(String tableName, String startColumn, String joinColumn) {
-        return "SELECT * FROM " + tableName + " START WITH " + startColumn + " = ? CONNECT BY PRIOR " + joinColumn + " = " + startColumn;
+    public String upRecursiveSql(String tableName, Collection<String> columns, String startColumn, String joinColumn) {
+        return "SELECT " + selectColumns("t.", columns) + " FROM " + tableName + " t START WITH t." + startColumn + " = ? CONNECT BY PRIOR t." + joinColumn + " = t." + startColumn;
     }
 }
\ No newline at end of file
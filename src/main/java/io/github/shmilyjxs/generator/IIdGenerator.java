@@ -0,0 +1,6 @@
+package io.github.shmilyjxs.generator;
+
+public interface IIdGenerator {
+
+    Object nextId();
+}
\ No newline at end of file
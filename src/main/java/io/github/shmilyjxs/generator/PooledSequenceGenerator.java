@@ -0,0 +1,54 @@
+package io.github.shmilyjxs.generator;
+
+import io.github.shmilyjxs.core.IDaoContext;
+
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PooledSequenceGenerator implements IIdGenerator {
+
+    private final IDaoContext daoContext;
+    private final String sequenceName;
+    private final int allocationSize;
+    private final Lock lock = new ReentrantLock();
+
+    private long next = 0L;
+    private long limit = 0L;
+
+    public PooledSequenceGenerator(IDaoContext daoContext, String sequenceName, int allocationSize) {
+        this.daoContext = Objects.requireNonNull(daoContext);
+        this.sequenceName = Objects.requireNonNull(sequenceName);
+        this.allocationSize = Math.max(1, allocationSize);
+        if (Objects.isNull(daoContext.getDBType().getDialect().sequenceSql(sequenceName))) {
+            throw new IllegalArgumentException("sequences are not supported by " + daoContext.getDBType());
+        }
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public int getAllocationSize() {
+        return allocationSize;
+    }
+
+    public long nextLong() {
+        lock.lock();
+        try {
+            if (next >= limit) {
+                long hi = daoContext.nextSequence(sequenceName);
+                next = Math.min(hi, Math.max(1L, hi - allocationSize + 1L));
+                limit = hi + 1L;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object nextId() {
+        return nextLong();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package io.github.shmilyjxs.generator;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SnowflakeGenerator implements IIdGenerator {
+
+    public static final long DEFAULT_EPOCH = 1577836800000L;
+
+    private static final int NODE_BITS = 10;
+
+    private static final int SEQUENCE_BITS = 12;
+
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1L;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1L;
+
+    private final long nodeId;
+    private final long epoch;
+    private final Lock lock = new ReentrantLock();
+
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    public SnowflakeGenerator(long nodeId) {
+        this(nodeId, DEFAULT_EPOCH);
+    }
+
+    public SnowflakeGenerator(long nodeId, long epoch) {
+        if (nodeId < 0L || nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE);
+        }
+        this.nodeId = nodeId;
+        this.epoch = epoch;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public long nextLong() {
+        lock.lock();
+        try {
+            long millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                sequence = (sequence + 1L) & SEQUENCE_MASK;
+                if (sequence == 0L) {
+                    millis++;
+                }
+            } else {
+                sequence = 0L;
+            }
+            lastMillis = millis;
+            return ((millis - epoch) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object nextId() {
+        return nextLong();
+    }
+}
\ No newline at end of file
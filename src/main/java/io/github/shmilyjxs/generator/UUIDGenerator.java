@@ -0,0 +1,11 @@
+package io.github.shmilyjxs.generator;
+
+import java.util.UUID;
+
+public class UUIDGenerator implements IIdGenerator {
+
+    @Override
+    public Object nextId() {
+        return UUID.randomUUID().toString();
+    }
+}
\ No newline at end of file
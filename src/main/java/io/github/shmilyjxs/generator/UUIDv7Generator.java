@@ -0,0 +1,47 @@
+package io.github.shmilyjxs.generator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class UUIDv7Generator implements IIdGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final int SEQUENCE_MASK = 0xFFF;
+
+    private final Lock lock = new ReentrantLock();
+
+    private long lastMillis = -1L;
+    private int sequence;
+
+    public UUID nextUUID() {
+        long millis;
+        int seq;
+        lock.lock();
+        try {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+            if (millis == lastMillis) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    millis++;
+                }
+            } else {
+                sequence = RANDOM.nextInt(SEQUENCE_MASK / 2);
+            }
+            lastMillis = millis;
+            seq = sequence;
+        } finally {
+            lock.unlock();
+        }
+        long msb = (millis << 16) | 0x7000L | seq;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object nextId() {
+        return nextUUID().toString();
+    }
+}
\ No newline at end of file
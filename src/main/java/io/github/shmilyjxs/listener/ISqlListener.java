@@ -0,0 +1,9 @@
+package io.github.shmilyjxs.listener;
+
+public interface ISqlListener {
+
+    default void beforeExecute(SqlEvent event) {
+    }
+
+    void afterExecute(SqlEvent event);
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package io.github.shmilyjxs.listener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class LoggingSqlListener implements ISqlListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingSqlListener.class);
+
+    private volatile long slowNanos = TimeUnit.SECONDS.toNanos(1L);
+
+    private volatile double sampleRate = 0.0D;
+
+    public long getSlowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowNanos);
+    }
+
+    public void setSlowMillis(long slowMillis) {
+        this.slowNanos = slowMillis <= 0L ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(slowMillis);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0.0D, Math.min(1.0D, sampleRate));
+    }
+
+    private static Object args(SqlEvent event) {
+        if (event.isBatch()) {
+            return "batch " + event.getBatchSize() + " first " + Arrays.asList(event.getBatchArgs().get(0));
+        }
+        return Arrays.asList(event.getArgs());
+    }
+
+    @Override
+    public void afterExecute(SqlEvent event) {
+        if (event.getElapsedNanos() >= slowNanos) {
+            if (Objects.isNull(event.getPlan())) {
+                logger.warn("slow sql {} ms rows {} sql = {} args = {}", event.getElapsedMillis(), event.getRows(), event.getSql(), args(event));
+            } else {
+                logger.warn("slow sql {} ms rows {} sql = {} args = {} plan = {}", event.getElapsedMillis(), event.getRows(), event.getSql(), args(event), event.getPlan());
+            }
+        } else if (!event.isSuccess()) {
+            logger.warn("sql failed {} ms sql = {} args = {} error = {}", event.getElapsedMillis(), event.getSql(), args(event), String.valueOf(event.getError()));
+        } else if (logger.isDebugEnabled()) {
+            double rate = sampleRate;
+            if (rate > 0.0D && ThreadLocalRandom.current().nextDouble() < rate) {
+                logger.debug("sql {} ms rows {} sql = {} args = {}", event.getElapsedMillis(), event.getRows(), event.getSql(), args(event));
+            } else {
+                logger.debug("sql {} ms rows {} sql = {}", event.getElapsedMillis(), event.getRows(), event.getSql());
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package io.github.shmilyjxs.listener;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+public class SqlEvent {
+
+    private static final int MAX_SHAPES = 4096;
+
+    private static final Map<String, String> SHAPE_CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+
+    private static final Pattern PLACEHOLDERS = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+    private static final Pattern BLANK = Pattern.compile("\\s+");
+
+    private final String sql;
+    private final Object[] args;
+    private final List<Object[]> batchArgs;
+    private final long startNanos = System.nanoTime();
+
+    private long elapsedNanos;
+    private long rows;
+    private Throwable error;
+    private String plan;
+
+    public SqlEvent(String sql, Object[] args) {
+        this.sql = Objects.requireNonNull(sql);
+        this.args = Objects.isNull(args) ? new Object[0] : args;
+        this.batchArgs = Collections.emptyList();
+    }
+
+    public SqlEvent(String sql, List<Object[]> batchArgs) {
+        this.sql = Objects.requireNonNull(sql);
+        this.args = new Object[0];
+        this.batchArgs = Collections.unmodifiableList(batchArgs);
+    }
+
+    public static String shapeOf(String sql) {
+        String shape = SHAPE_CACHE.get(sql);
+        if (Objects.isNull(shape)) {
+            shape = BLANK.matcher(PLACEHOLDERS.matcher(LITERAL.matcher(sql).replaceAll("?")).replaceAll("?")).replaceAll(" ").trim();
+            if (SHAPE_CACHE.size() < MAX_SHAPES) {
+                SHAPE_CACHE.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    public void complete(long rows, Throwable error) {
+        this.elapsedNanos = System.nanoTime() - startNanos;
+        this.rows = rows;
+        this.error = error;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public String getShape() {
+        return shapeOf(sql);
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public List<Object[]> getBatchArgs() {
+        return batchArgs;
+    }
+
+    public boolean isBatch() {
+        return !batchArgs.isEmpty();
+    }
+
+    public int getBatchSize() {
+        return isBatch() ? batchArgs.size() : 1;
+    }
+
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+
+    public void setPlan(String plan) {
+        this.plan = plan;
+    }
+
+    public boolean isSuccess() {
+        return Objects.isNull(error);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package io.github.shmilyjxs.listener;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class SqlMetrics implements ISqlListener, SqlMetricsMXBean {
+
+    public static final String OVERFLOW_SHAPE = "<other>";
+
+    private static final long[] BOUNDS_MICROS = {50L, 100L, 250L, 500L, 1000L, 2500L, 5000L, 10000L, 25000L, 50000L, 100000L, 250000L, 500000L, 1000000L, 2500000L, 5000000L, 10000000L, Long.MAX_VALUE};
+
+    private final int maxStatements;
+    private final Map<String, Stats> statsMap = new ConcurrentHashMap<>();
+
+    private volatile ObjectName objectName;
+
+    public SqlMetrics() {
+        this(1000);
+    }
+
+    public SqlMetrics(int maxStatements) {
+        this.maxStatements = Math.max(1, maxStatements);
+    }
+
+    public SqlMetrics register(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName("io.github.shmilyjxs:type=SqlMetrics,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            this.objectName = objectName;
+            return this;
+        } catch (JMException e) {
+            throw new IllegalStateException("register sql metrics " + name + " failed", e);
+        }
+    }
+
+    public void unregister() {
+        Optional.ofNullable(objectName).ifPresent(e -> {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(e);
+            } catch (JMException ex) {
+                throw new IllegalStateException("unregister sql metrics " + e + " failed", ex);
+            } finally {
+                objectName = null;
+            }
+        });
+    }
+
+    @Override
+    public void afterExecute(SqlEvent event) {
+        String shape = event.getShape();
+        Stats stats = statsMap.get(shape);
+        if (Objects.isNull(stats)) {
+            stats = statsMap.size() < maxStatements ? statsMap.computeIfAbsent(shape, e -> new Stats()) : statsMap.computeIfAbsent(OVERFLOW_SHAPE, e -> new Stats());
+        }
+        stats.record(event);
+    }
+
+    public StatementStats getStatement(String shape) {
+        return Optional.ofNullable(statsMap.get(shape)).map(e -> e.snapshot(shape)).orElse(null);
+    }
+
+    @Override
+    public long getCount() {
+        return statsMap.values().stream().mapToLong(e -> e.count.sum()).sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return statsMap.values().stream().mapToLong(e -> e.errors.sum()).sum();
+    }
+
+    @Override
+    public long[] getBucketBoundsMicros() {
+        return BOUNDS_MICROS.clone();
+    }
+
+    @Override
+    public List<StatementStats> getStatements() {
+        return statsMap.entrySet().stream()
+                .map(e -> e.getValue().snapshot(e.getKey()))
+                .sorted(Comparator.comparingLong(StatementStats::getTotalMicros).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void reset() {
+        statsMap.clear();
+    }
+
+    private static int bucket(long micros) {
+        int index = Arrays.binarySearch(BOUNDS_MICROS, micros);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static final class Stats {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder batchRows = new LongAdder();
+        private final AtomicLong maxBatchSize = new AtomicLong();
+        private final LongAdder totalMicros = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private final LongAdder[] histogram = Arrays.stream(BOUNDS_MICROS).mapToObj(e -> new LongAdder()).toArray(LongAdder[]::new);
+
+        private void record(SqlEvent event) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(event.getElapsedNanos());
+            count.increment();
+            if (!event.isSuccess()) {
+                errors.increment();
+            }
+            rows.add(event.getRows());
+            if (event.isBatch()) {
+                batches.increment();
+                batchRows.add(event.getBatchSize());
+                maxBatchSize.accumulateAndGet(event.getBatchSize(), Math::max);
+            }
+            totalMicros.add(micros);
+            maxMicros.accumulateAndGet(micros, Math::max);
+            histogram[bucket(micros)].increment();
+        }
+
+        private StatementStats snapshot(String shape) {
+            long[] counts = Arrays.stream(histogram).mapToLong(LongAdder::sum).toArray();
+            return new StatementStats(shape, count.sum(), errors.sum(), rows.sum(), batches.sum(), batchRows.sum(), maxBatchSize.get(), totalMicros.sum(), maxMicros.get(), counts, BOUNDS_MICROS);
+        }
+    }
+}
\ No newline at end of file
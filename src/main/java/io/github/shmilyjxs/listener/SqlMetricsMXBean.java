@@ -0,0 +1,16 @@
+package io.github.shmilyjxs.listener;
+
+import java.util.List;
+
+public interface SqlMetricsMXBean {
+
+    long getCount();
+
+    long getErrors();
+
+    long[] getBucketBoundsMicros();
+
+    List<StatementStats> getStatements();
+
+    void reset();
+}
\ No newline at end of file
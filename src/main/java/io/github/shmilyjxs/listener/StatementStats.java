@@ -0,0 +1,106 @@
+package io.github.shmilyjxs.listener;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+public class StatementStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String shape;
+    private final long count;
+    private final long errors;
+    private final long rows;
+    private final long batches;
+    private final long batchRows;
+    private final long maxBatchSize;
+    private final long totalMicros;
+    private final long maxMicros;
+    private final long[] histogram;
+    private final long[] boundsMicros;
+
+    public StatementStats(String shape, long count, long errors, long rows, long batches, long batchRows, long maxBatchSize, long totalMicros, long maxMicros, long[] histogram, long[] boundsMicros) {
+        this.shape = shape;
+        this.count = count;
+        this.errors = errors;
+        this.rows = rows;
+        this.batches = batches;
+        this.batchRows = batchRows;
+        this.maxBatchSize = maxBatchSize;
+        this.totalMicros = totalMicros;
+        this.maxMicros = maxMicros;
+        this.histogram = histogram;
+        this.boundsMicros = boundsMicros;
+    }
+
+    private long percentile(double quantile) {
+        long target = (long) Math.ceil(Arrays.stream(histogram).sum() * quantile);
+        if (target == 0L) {
+            return 0L;
+        }
+        long seen = 0L;
+        for (int index = 0; index < histogram.length; index++) {
+            seen += histogram[index];
+            if (seen >= target) {
+                return Math.min(boundsMicros[index], maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBatches() {
+        return batches;
+    }
+
+    public long getBatchRows() {
+        return batchRows;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public long getMeanMicros() {
+        return count == 0L ? 0L : totalMicros / count;
+    }
+
+    public long getP50Micros() {
+        return percentile(0.50D);
+    }
+
+    public long getP95Micros() {
+        return percentile(0.95D);
+    }
+
+    public long getP99Micros() {
+        return percentile(0.99D);
+    }
+
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+}
\ No newline at end of file
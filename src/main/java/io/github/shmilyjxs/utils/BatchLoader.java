@@ -0,0 +1,104 @@
+package io.github.shmilyjxs.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+public class BatchLoader<K, V> {
+
+    private final Function<? super List<K>, ? extends Map<K, V>> batchFunction;
+    private final int maxBatchSize;
+    private final long windowNanos;
+    private final Lock lock = new ReentrantLock();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private Batch<K, V> current;
+
+    public BatchLoader(Function<? super List<K>, ? extends Map<K, V>> batchFunction, int maxBatchSize, long windowMillis) {
+        this.batchFunction = Objects.requireNonNull(batchFunction);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, windowMillis));
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getWindowMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(windowNanos);
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public CompletableFuture<V> load(K key) {
+        Objects.requireNonNull(key);
+        loads.increment();
+        Batch<K, V> batch;
+        CompletableFuture<V> future;
+        boolean leader = false;
+        lock.lock();
+        try {
+            if (Objects.isNull(current)) {
+                current = new Batch<>();
+                leader = true;
+            }
+            batch = current;
+            future = batch.futures.computeIfAbsent(key, e -> new CompletableFuture<>());
+            if (batch.futures.size() >= maxBatchSize) {
+                current = null;
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (leader) {
+            try {
+                batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lock.lock();
+            try {
+                if (current == batch) {
+                    current = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+            dispatch(batch);
+        }
+        return future;
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        batches.increment();
+        try {
+            Map<K, V> result = batchFunction.apply(new ArrayList<>(batch.futures.keySet()));
+            batch.futures.forEach((key, future) -> future.complete(Objects.isNull(result) ? null : result.get(key)));
+        } catch (RuntimeException | Error e) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    private static final class Batch<K, V> {
+
+        private final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package io.github.shmilyjxs.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.*;
+
+public class BeanExtractor<T> {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<T> beanClass;
+    private final List<String> columns;
+    private final MethodHandle[] getters;
+
+    public BeanExtractor(Class<T> beanClass, Map<String, String> convertMap) {
+        this.beanClass = Objects.requireNonNull(beanClass);
+        List<String> columnList = new ArrayList<>(convertMap.size());
+        List<MethodHandle> getterList = new ArrayList<>(convertMap.size());
+        try {
+            for (Map.Entry<String, String> entry : convertMap.entrySet()) {
+                Method readMethod = Optional.ofNullable(BeanUtils.getPropertyDescriptor(beanClass, entry.getKey())).map(PropertyDescriptor::getReadMethod).orElse(null);
+                if (Objects.nonNull(readMethod)) {
+                    ReflectionUtils.makeAccessible(readMethod);
+                    columnList.add(entry.getValue());
+                    getterList.add(MethodHandles.lookup().unreflect(readMethod).asType(GETTER_TYPE));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(beanClass.getName(), e);
+        }
+        this.columns = Collections.unmodifiableList(columnList);
+        this.getters = getterList.toArray(new MethodHandle[0]);
+    }
+
+    public static boolean isBlank(Object value) {
+        if (value instanceof CharSequence) {
+            return StringUtils.isBlank((CharSequence) value);
+        } else {
+            return Objects.isNull(value);
+        }
+    }
+
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public int indexOf(String column) {
+        for (int index = 0; index < columns.size(); index++) {
+            if (columns.get(index).equalsIgnoreCase(column)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public Object[] values(Object bean) {
+        Object[] values = new Object[getters.length];
+        try {
+            for (int index = 0; index < getters.length; index++) {
+                values[index] = getters[index].invokeExact(bean);
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(beanClass.getName(), e);
+        }
+        return values;
+    }
+
+    public Map<String, Object> toMap(Object bean, boolean skipBlank) {
+        Object[] values = values(bean);
+        Map<String, Object> map = new LinkedCaseInsensitiveMap<>(values.length);
+        for (int index = 0; index < values.length; index++) {
+            if (!skipBlank || !isBlank(values[index])) {
+                map.put(columns.get(index), values[index]);
+            }
+        }
+        return map;
+    }
+}
\ No newline at end of file
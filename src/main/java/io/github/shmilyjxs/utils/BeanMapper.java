@@ -0,0 +1,129 @@
+package io.github.shmilyjxs.utils;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BeanMapper<T> {
+
+    private static final Map<Class<?>, BeanMapper<?>> MAPPER_CACHE = new ConcurrentHashMap<>();
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> mappedClass;
+    private final MethodHandle constructor;
+    private final Map<String, Property> propertyMap = new HashMap<>();
+    private final Map<String, Property[]> layoutCache = new ConcurrentHashMap<>();
+
+    public BeanMapper(Class<T> mappedClass) {
+        this(mappedClass, Collections.emptyMap());
+    }
+
+    public BeanMapper(Class<T> mappedClass, Map<String, String> convertMap) {
+        this.mappedClass = Objects.requireNonNull(mappedClass);
+        try {
+            Constructor<T> ctor = ReflectionUtils.accessibleConstructor(mappedClass);
+            this.constructor = MethodHandles.lookup().unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+            for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
+                Method writeMethod = pd.getWriteMethod();
+                if (Objects.nonNull(writeMethod)) {
+                    ReflectionUtils.makeAccessible(writeMethod);
+                    MethodHandle setter = MethodHandles.lookup().unreflect(writeMethod).asType(SETTER_TYPE);
+                    Property property = new Property(pd.getPropertyType(), setter);
+                    propertyMap.put(lowerCase(pd.getName()), property);
+                    propertyMap.putIfAbsent(lowerCase(BeanUtil.javaToDb(pd.getName())), property);
+                }
+            }
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(mappedClass.getName(), e);
+        }
+        convertMap.forEach((key, val) -> Optional.ofNullable(propertyMap.get(lowerCase(key))).ifPresent(e -> propertyMap.put(lowerCase(val), e)));
+    }
+
+    public static <T> BeanMapper<T> of(Class<T> mappedClass) {
+        return (BeanMapper<T>) MAPPER_CACHE.computeIfAbsent(mappedClass, BeanMapper::new);
+    }
+
+    private static String lowerCase(String str) {
+        return str.toLowerCase(Locale.ENGLISH);
+    }
+
+    public Class<T> getMappedClass() {
+        return mappedClass;
+    }
+
+    public RowMapper<T> rowMapper() {
+        return new RowMapper<T>() {
+
+            private Property[] layout;
+
+            @Override
+            public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+                if (Objects.isNull(layout)) {
+                    layout = layout(rs.getMetaData());
+                }
+                return BeanMapper.this.mapRow(rs, layout);
+            }
+        };
+    }
+
+    private Property[] layout(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] columns = new String[columnCount];
+        for (int index = 1; index <= columnCount; index++) {
+            columns[index - 1] = lowerCase(JdbcUtils.lookupColumnName(metaData, index));
+        }
+        return layoutCache.computeIfAbsent(String.join(",", columns), key -> Arrays.stream(columns).map(propertyMap::get).toArray(Property[]::new));
+    }
+
+    private T mapRow(ResultSet rs, Property[] layout) throws SQLException {
+        try {
+            Object bean = constructor.invokeExact();
+            for (int index = 0; index < layout.length; index++) {
+                Property property = layout[index];
+                if (Objects.nonNull(property)) {
+                    Object value = JdbcUtils.getResultSetValue(rs, index + 1, property.type);
+                    if (Objects.isNull(value)) {
+                        if (property.type.isPrimitive()) {
+                            continue;
+                        }
+                    } else if (!ClassUtils.isAssignableValue(property.type, value)) {
+                        value = DefaultConversionService.getSharedInstance().convert(value, property.type);
+                    }
+                    property.setter.invokeExact(bean, value);
+                }
+            }
+            return (T) bean;
+        } catch (SQLException | RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(mappedClass.getName(), e);
+        }
+    }
+
+    private static final class Property {
+
+        private final Class<?> type;
+        private final MethodHandle setter;
+
+        private Property(Class<?> type, MethodHandle setter) {
+            this.type = type;
+            this.setter = setter;
+        }
+    }
+}
\ No newline at end of file
@@ -103,8 +103,11 @@ public abstract class BeanUtil {
     }
 
     public static Field idFiled(Class<?> clazz) {
-        Field idFiled = Optional.ofNullable(clazz).map(e -> getFiled(e, Id.class)).orElseGet(() -> findFiled(clazz, Id.class));
-        return Objects.requireNonNull(idFiled);
+        return Objects.requireNonNull(annotatedFiled(clazz, Id.class));
+    }
+
+    public static Field annotatedFiled(Class<?> clazz, Class<? extends Annotation> annotationType) {
+        return Optional.ofNullable(clazz).map(e -> getFiled(e, annotationType)).orElseGet(() -> findFiled(clazz, annotationType));
     }
 
     private static Field getFiled(Class<?> clazz, Class<? extends Annotation> annotationType) {
@@ -0,0 +1,52 @@
+package io.github.shmilyjxs.utils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class KeysetResult<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long pageSize;
+
+    private final Object nextKey;
+
+    private final boolean hasNext;
+
+    private final List<T> records;
+
+    public KeysetResult(long pageSize, Object nextKey, boolean hasNext, List<T> records) {
+        this.pageSize = pageSize;
+        this.nextKey = nextKey;
+        this.hasNext = hasNext;
+        this.records = Optional.ofNullable(records).map(Collections::unmodifiableList).orElse(Collections.emptyList());
+    }
+
+    public static <T> KeysetResult<T> of(long pageSize, Object nextKey, boolean hasNext, List<T> records) {
+        return new KeysetResult<>(pageSize, nextKey, hasNext, records);
+    }
+
+    public <R> KeysetResult<R> map(Function<T, R> mapper) {
+        return KeysetResult.of(pageSize, nextKey, hasNext, records.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    public long getPageSize() {
+        return pageSize;
+    }
+
+    public Object getNextKey() {
+        return nextKey;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+}
\ No newline at end of file
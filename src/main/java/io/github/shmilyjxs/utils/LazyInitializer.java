@@ -1,23 +1,43 @@
 package io.github.shmilyjxs.utils;
 
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
 public abstract class LazyInitializer<T> {
 
     private static final Object NO_INIT = new Object();
 
+    private final Lock lock = new ReentrantLock();
+
     private volatile T object = (T) NO_INIT;
 
     public T get() {
         T result = object;
         if (result == NO_INIT) {
-            synchronized (this) {
+            lock.lock();
+            try {
                 result = object;
                 if (result == NO_INIT) {
                     object = result = initialize();
                 }
+            } finally {
+                lock.unlock();
             }
         }
         return result;
     }
 
+    public static <T> LazyInitializer<T> of(Supplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+        return new LazyInitializer<T>() {
+            @Override
+            protected T initialize() {
+                return supplier.get();
+            }
+        };
+    }
+
     protected abstract T initialize();
 }
\ No newline at end of file
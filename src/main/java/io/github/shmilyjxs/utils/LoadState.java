@@ -0,0 +1,33 @@
+package io.github.shmilyjxs.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.*;
+
+public abstract class LoadState {
+
+    private static final Cache<Object, Set<String>> UNLOADED = CacheBuilder.newBuilder().weakKeys().build();
+
+    public static void markUnloaded(Object bean, Set<String> properties) {
+        if (Objects.nonNull(bean) && !properties.isEmpty()) {
+            UNLOADED.put(bean, Collections.unmodifiableSet(new HashSet<>(properties)));
+        }
+    }
+
+    public static void markLoaded(Object bean, Collection<String> properties) {
+        UNLOADED.asMap().computeIfPresent(bean, (key, val) -> {
+            Set<String> result = new HashSet<>(val);
+            result.removeAll(properties);
+            return result.isEmpty() ? null : Collections.unmodifiableSet(result);
+        });
+    }
+
+    public static Set<String> getUnloaded(Object bean) {
+        return Optional.ofNullable(bean).map(UNLOADED::getIfPresent).orElse(Collections.emptySet());
+    }
+
+    public static void copy(Object source, Object target) {
+        Optional.ofNullable(source).map(UNLOADED::getIfPresent).ifPresent(e -> UNLOADED.put(target, e));
+    }
+}
\ No newline at end of file
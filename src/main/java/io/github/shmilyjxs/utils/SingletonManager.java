@@ -3,24 +3,29 @@ package io.github.shmilyjxs.utils;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 public abstract class SingletonManager {
 
-    private static final Object LOCK = new Object();
+    private static final Lock LOCK = new ReentrantLock();
     private static final Map<Object, Object> SINGLETON_MAP = new ConcurrentHashMap<>();
     private static final Map<Object, Supplier<?>> SUPPLIER_MAP = new ConcurrentHashMap<>();
 
     public static Object getObj(Object key) {
         Object obj = SINGLETON_MAP.get(Objects.requireNonNull(key));
         if (obj == null) {
-            synchronized (LOCK) {
+            LOCK.lock();
+            try {
                 obj = SINGLETON_MAP.get(key);
                 if (obj == null) {
                     Supplier<?> supplier = Objects.requireNonNull(SUPPLIER_MAP.get(key));
                     obj = Objects.requireNonNull(supplier.get());
                     SINGLETON_MAP.put(key, obj);
                 }
+            } finally {
+                LOCK.unlock();
             }
         }
         return obj;
@@ -0,0 +1,52 @@
+package io.github.shmilyjxs.utils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class SliceResult<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long pageNum;
+
+    private final long pageSize;
+
+    private final boolean hasNext;
+
+    private final List<T> records;
+
+    public SliceResult(long pageNum, long pageSize, boolean hasNext, List<T> records) {
+        this.pageNum = pageNum;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+        this.records = Optional.ofNullable(records).map(Collections::unmodifiableList).orElse(Collections.emptyList());
+    }
+
+    public static <T> SliceResult<T> of(long pageNum, long pageSize, boolean hasNext, List<T> records) {
+        return new SliceResult<>(pageNum, pageSize, hasNext, records);
+    }
+
+    public <R> SliceResult<R> map(Function<T, R> mapper) {
+        return SliceResult.of(pageNum, pageSize, hasNext, records.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    public long getPageNum() {
+        return pageNum;
+    }
+
+    public long getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public List<T> getRecords() {
+        return records;
+    }
+}
\ No newline at end of file
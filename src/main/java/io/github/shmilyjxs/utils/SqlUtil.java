@@ -0,0 +1,65 @@
+package io.github.shmilyjxs.utils;
+
+import org.intellij.lang.annotations.Language;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public abstract class SqlUtil {
+
+    private static final Pattern SELECT = Pattern.compile("^\\s*SELECT\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern CLAUSE = Pattern.compile("\\b(WHERE|GROUP\\s+BY|HAVING|WINDOW|QUALIFY|ORDER\\s+BY|LIMIT|OFFSET|FETCH|FOR\\s+UPDATE|UNION|INTERSECT|EXCEPT|MINUS|START\\s+WITH|CONNECT\\s+BY)\\b", Pattern.CASE_INSENSITIVE);
+
+    public static String topLevel(@Language("SQL") final String sql) {
+        char[] chars = sql.toCharArray();
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < chars.length; i++) {
+            char c = chars[i];
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+                chars[i] = ' ';
+            } else if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+                chars[i] = ' ';
+            } else if (c == '(') {
+                depth++;
+                chars[i] = ' ';
+            } else if (c == ')') {
+                depth--;
+                chars[i] = ' ';
+            } else if (depth > 0) {
+                chars[i] = ' ';
+            }
+        }
+        return new String(chars);
+    }
+
+    public static String keysetSql(@Language("SQL") final String sql, String keyColumn, boolean first) {
+        String masked = topLevel(sql);
+        if (!SELECT.matcher(masked).lookingAt()) {
+            return null;
+        }
+        int where = -1;
+        Matcher matcher = CLAUSE.matcher(masked);
+        while (matcher.find()) {
+            if (where >= 0 || !"WHERE".equalsIgnoreCase(matcher.group(1))) {
+                return null;
+            }
+            where = matcher.end();
+        }
+        StringBuilder stringBuilder = new StringBuilder();
+        if (first) {
+            stringBuilder.append(sql.trim());
+        } else if (where < 0) {
+            stringBuilder.append(sql.trim()).append(" WHERE ").append(keyColumn).append(" > ?");
+        } else {
+            stringBuilder.append(sql, 0, where).append(" ( ").append(sql.substring(where).trim()).append(" ) AND ").append(keyColumn).append(" > ?");
+        }
+        stringBuilder.append(" ORDER BY ").append(keyColumn);
+        return stringBuilder.toString();
+    }
+}
\ No newline at end of file
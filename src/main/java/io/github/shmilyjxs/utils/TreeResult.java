@@ -0,0 +1,113 @@
+package io.github.shmilyjxs.utils;
+
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+public class TreeResult<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Object, T> nodeMap;
+
+    private final Map<Object, Object> parentMap;
+
+    private final Map<Object, List<Object>> childrenMap;
+
+    private final List<Object> rootKeys;
+
+    public TreeResult(List<Triple<Object, Object, T>> rows) {
+        Map<Object, T> nodes = new LinkedHashMap<>();
+        Map<Object, Object> parents = new HashMap<>();
+        Map<Object, List<Object>> children = new HashMap<>();
+        rows.forEach(e -> {
+            if (Objects.nonNull(e.getLeft()) && !nodes.containsKey(e.getLeft())) {
+                nodes.put(e.getLeft(), e.getRight());
+                if (Objects.nonNull(e.getMiddle())) {
+                    parents.put(e.getLeft(), e.getMiddle());
+                }
+            }
+        });
+        nodes.keySet().stream().filter(parents::containsKey).forEach(e -> children.computeIfAbsent(parents.get(e), key -> new ArrayList<>()).add(e));
+        this.nodeMap = Collections.unmodifiableMap(nodes);
+        this.parentMap = Collections.unmodifiableMap(parents);
+        this.childrenMap = Collections.unmodifiableMap(children.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> Collections.unmodifiableList(e.getValue()))));
+        this.rootKeys = Collections.unmodifiableList(nodes.keySet().stream().filter(e -> !nodes.containsKey(parents.get(e))).collect(Collectors.toList()));
+    }
+
+    public static <T> TreeResult<T> of(List<Triple<Object, Object, T>> rows) {
+        return new TreeResult<>(rows);
+    }
+
+    public TreeResult<T> copy(UnaryOperator<T> copier) {
+        return of(nodeMap.entrySet().stream().map(e -> Triple.of(e.getKey(), parentMap.get(e.getKey()), copier.apply(e.getValue()))).collect(Collectors.toList()));
+    }
+
+    public int size() {
+        return nodeMap.size();
+    }
+
+    public boolean contains(Object key) {
+        return nodeMap.containsKey(key);
+    }
+
+    public T get(Object key) {
+        return nodeMap.get(key);
+    }
+
+    public List<T> getRecords() {
+        return new ArrayList<>(nodeMap.values());
+    }
+
+    public List<T> getRoots() {
+        return rootKeys.stream().map(nodeMap::get).collect(Collectors.toList());
+    }
+
+    public List<Object> getRootKeys() {
+        return rootKeys;
+    }
+
+    public Object getParentKey(Object key) {
+        return parentMap.get(key);
+    }
+
+    public T getParent(Object key) {
+        return Optional.ofNullable(parentMap.get(key)).map(nodeMap::get).orElse(null);
+    }
+
+    public List<Object> getChildKeys(Object key) {
+        return childrenMap.getOrDefault(key, Collections.emptyList());
+    }
+
+    public List<T> getChildren(Object key) {
+        return getChildKeys(key).stream().map(nodeMap::get).collect(Collectors.toList());
+    }
+
+    public List<T> getDescendants(Object key) {
+        List<T> result = new ArrayList<>();
+        Deque<Object> deque = new ArrayDeque<>(getChildKeys(key));
+        Set<Object> visited = new HashSet<>();
+        while (!deque.isEmpty()) {
+            Object current = deque.poll();
+            if (visited.add(current)) {
+                result.add(nodeMap.get(current));
+                deque.addAll(getChildKeys(current));
+            }
+        }
+        return result;
+    }
+
+    public List<T> getAncestors(Object key) {
+        List<T> result = new ArrayList<>();
+        Set<Object> visited = new HashSet<>();
+        Object current = parentMap.get(key);
+        while (Objects.nonNull(current) && nodeMap.containsKey(current) && visited.add(current)) {
+            result.add(nodeMap.get(current));
+            current = parentMap.get(current);
+        }
+        return result;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package io.github.shmilyjxs.core.impl;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchLoadingTest {
+
+    @Test
+    void readsPinnedToPrimaryDoNotJoinBatches() throws Exception {
+        DataSource dataSource = TestUser.dataSource();
+        ReadWriteDaoContextImpl daoContext = new ReadWriteDaoContextImpl(dataSource, Collections.singletonList(dataSource));
+        daoContext.setReadYourWritesMillis(TimeUnit.MINUTES.toMillis(1L));
+        daoContext.getJdbcTemplate().execute(TestUser.DDL);
+        daoContext.enableBatchLoading(TestUser.class, 100, 1L);
+        TestUser user = TestUser.of("alice", 30);
+        daoContext.insert(user);
+        assertEquals("alice", daoContext.getBean(user.getId(), TestUser.class).getName());
+        assertEquals(0L, daoContext.getBatchLoader(TestUser.class).getLoads());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals("alice", executor.submit(() -> daoContext.getBean(user.getId(), TestUser.class).getName()).get(5L, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1L, daoContext.getBatchLoader(TestUser.class).getLoads());
+        daoContext.getJdbcTemplate().execute("SHUTDOWN");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,195 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.core.InStrategy;
+import io.github.shmilyjxs.generator.PooledSequenceGenerator;
+import io.github.shmilyjxs.listener.ISqlListener;
+import io.github.shmilyjxs.listener.SqlEvent;
+import io.github.shmilyjxs.utils.TreeResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DaoContextImplTest {
+
+    private DaoContextImpl daoContext;
+
+    @BeforeEach
+    void setUp() {
+        daoContext = new DaoContextImpl(TestUser.dataSource());
+        daoContext.nativeUpdate(TestUser.DDL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        daoContext.nativeUpdate("SHUTDOWN");
+    }
+
+    @Test
+    void multiValuesInsertIsChunked() {
+        List<SqlEvent> events = new CopyOnWriteArrayList<>();
+        daoContext.addListener(events::add);
+        daoContext.setBatchSize(100);
+        daoContext.setMultiValues(true);
+        daoContext.batchInsert(TestUser.list(250));
+        assertEquals(Arrays.asList(100, 100, 50), events.stream().filter(SqlEvent::isBatch).map(SqlEvent::getBatchSize).collect(Collectors.toList()));
+        assertEquals(250L, daoContext.count("SELECT * FROM T_USER"));
+    }
+
+    @Test
+    void bulkUpdateKeepsLastRowPerId() {
+        TestUser user = TestUser.of("alice", 30);
+        daoContext.insert(user);
+        TestUser first = TestUser.of("bob", null);
+        first.setId(user.getId());
+        TestUser second = TestUser.of(null, 40);
+        second.setId(user.getId());
+        daoContext.bulkUpdate(Arrays.asList(first, second), true);
+        TestUser patched = daoContext.getBean(user.getId(), TestUser.class);
+        assertEquals("bob", patched.getName());
+        assertEquals(Integer.valueOf(40), patched.getAge());
+        daoContext.bulkUpdate(Arrays.asList(second, first), false);
+        TestUser replaced = daoContext.getBean(user.getId(), TestUser.class);
+        assertEquals("bob", replaced.getName());
+        assertNull(replaced.getAge());
+    }
+
+    @Test
+    void pooledSequenceHandsOutRangeEndingAtFetchedValue() {
+        daoContext.nativeUpdate("CREATE SEQUENCE S_USER START WITH 5 INCREMENT BY 5");
+        List<SqlEvent> events = new CopyOnWriteArrayList<>();
+        daoContext.addListener(events::add);
+        PooledSequenceGenerator generator = new PooledSequenceGenerator(daoContext, "S_USER", 5);
+        List<Long> ids = IntStream.range(0, 7).mapToObj(e -> generator.nextLong()).collect(Collectors.toList());
+        assertEquals(LongStream.rangeClosed(1L, 7L).boxed().collect(Collectors.toList()), ids);
+        assertEquals(2, events.size());
+        assertEquals(Long.valueOf(15L), daoContext.scalar("SELECT NEXT VALUE FOR S_USER", Long.class));
+    }
+
+    @Test
+    void cacheServesRepeatedReadsAndEvictsOnUpdate() {
+        daoContext.enableCache(TestUser.class, 100L, 0L);
+        TestUser user = TestUser.of("alice", 30);
+        daoContext.insert(user);
+        TestUser first = daoContext.getBean(user.getId(), TestUser.class);
+        TestUser second = daoContext.getBean(user.getId(), TestUser.class);
+        assertEquals(1L, daoContext.getCacheStats(TestUser.class).hitCount());
+        assertNotSame(first, second);
+        second.setName("bob");
+        daoContext.updateById(second, true);
+        assertEquals("bob", daoContext.getBean(user.getId(), TestUser.class).getName());
+    }
+
+    @Test
+    void evictionDuringLoadIsNotOverwritten() {
+        daoContext.enableCache(TestUser.class, 100L, 0L);
+        TestUser user = TestUser.of("alice", 30);
+        daoContext.insert(user);
+        AtomicBoolean raced = new AtomicBoolean();
+        daoContext.addListener(new ISqlListener() {
+            @Override
+            public void beforeExecute(SqlEvent event) {
+            }
+
+            @Override
+            public void afterExecute(SqlEvent event) {
+                if (event.getSql().startsWith("SELECT") && raced.compareAndSet(false, true)) {
+                    TestUser changed = TestUser.of("bob", 30);
+                    changed.setId(user.getId());
+                    daoContext.updateById(changed, true);
+                }
+            }
+        });
+        assertEquals("alice", daoContext.getBean(user.getId(), TestUser.class).getName());
+        assertEquals("bob", daoContext.getBean(user.getId(), TestUser.class).getName());
+    }
+
+    @Test
+    void cachedBatchKeepsRequestedOrder() {
+        daoContext.enableCache(TestUser.class, 100L, 0L);
+        List<TestUser> users = TestUser.list(3);
+        daoContext.batchInsert(users);
+        daoContext.getBean(users.get(1).getId(), TestUser.class);
+        List<String> ids = Arrays.asList(users.get(2).getId(), users.get(1).getId(), users.get(0).getId());
+        assertEquals(ids, daoContext.getBeans(ids, TestUser.class).stream().map(TestUser::getId).collect(Collectors.toList()));
+        assertEquals(1L, daoContext.getCacheStats(TestUser.class).hitCount());
+    }
+
+    @Test
+    void transactionalReadsBypassCache() {
+        daoContext.enableCache(TestUser.class, 100L, 0L);
+        TestUser user = TestUser.of("alice", 30);
+        daoContext.insert(user);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(daoContext.getDataSource()));
+        transactionTemplate.executeWithoutResult(status -> {
+            user.setName("bob");
+            daoContext.updateById(user, true);
+            assertEquals("bob", daoContext.getBean(user.getId(), TestUser.class).getName());
+            status.setRollbackOnly();
+        });
+        assertEquals(0L, daoContext.getCacheStats(TestUser.class).requestCount());
+        assertEquals("alice", daoContext.getBean(user.getId(), TestUser.class).getName());
+    }
+
+    @Test
+    void tempTableStrategyDoesNotCommitOpenTransaction() {
+        daoContext.setInStrategy(InStrategy.TEMP_TABLE);
+        List<String> ids = IntStream.range(0, 1500).mapToObj(String::valueOf).collect(Collectors.toList());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(daoContext.getDataSource()));
+        transactionTemplate.executeWithoutResult(status -> {
+            TestUser user = TestUser.of("alice", 30);
+            user.setId("7");
+            daoContext.insert(user);
+            assertEquals(1, daoContext.getBeans("T_USER", "ID", ids, TestUser.class).size());
+            status.setRollbackOnly();
+        });
+        assertEquals(0L, daoContext.count("SELECT * FROM T_USER"));
+    }
+
+    @Test
+    void cachedTreesAreCopiedOnEveryRead() {
+        daoContext.nativeUpdate("CREATE TABLE T_NODE ( ID INT PRIMARY KEY , PID INT , NAME VARCHAR(64) )");
+        daoContext.nativeUpdate("INSERT INTO T_NODE VALUES ( 1 , NULL , 'root' ) , ( 2 , 1 , 'child' ) , ( 3 , 2 , 'leaf' )");
+        daoContext.enableTreeCache("T_NODE", 100L, 0L);
+        TreeResult<Map<String, Object>> first = daoContext.downTree("T_NODE", "ID", 1, "PID", -1);
+        assertEquals(3, first.size());
+        first.get(2).put("NAME", "changed");
+        TreeResult<Map<String, Object>> second = daoContext.downTree("T_NODE", "ID", 1, "PID", -1);
+        assertEquals("child", second.get(2).get("NAME"));
+        second.get(2).put("NAME", "changed");
+        assertEquals("child", daoContext.downTree("T_NODE", "ID", 1, "PID", -1).get(2).get("NAME"));
+        assertEquals(2L, daoContext.getTreeCacheStats("T_NODE").hitCount());
+    }
+
+    @Test
+    void fullUpdateSkipsOnlyUnloadedLazyColumns() {
+        TestUser user = TestUser.of("alice", 30);
+        user.setContent("payload");
+        daoContext.insert(user);
+        TestUser loaded = daoContext.getBean(user.getId(), TestUser.class);
+        assertNull(loaded.getContent());
+        loaded.setAge(31);
+        daoContext.updateById(loaded, false);
+        assertEquals("payload", daoContext.scalar("SELECT CONTENT FROM T_USER WHERE ID = ?", String.class, user.getId()));
+        daoContext.loadLazy(Collections.singletonList(loaded));
+        assertEquals("payload", loaded.getContent());
+        loaded.setContent(null);
+        daoContext.updateById(loaded, false);
+        assertNull(daoContext.scalar("SELECT CONTENT FROM T_USER WHERE ID = ?", String.class, user.getId()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.utils.PageResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteDaoContextImplTest {
+
+    private DaoContextImpl replica;
+    private ReadWriteDaoContextImpl daoContext;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        DataSource replicaDataSource = TestUser.dataSource();
+        replica = new DaoContextImpl(replicaDataSource);
+        replica.nativeUpdate(TestUser.DDL);
+        daoContext = new ReadWriteDaoContextImpl(TestUser.dataSource(), Collections.singletonList(replicaDataSource));
+        daoContext.nativeUpdate(TestUser.DDL);
+        executor = Executors.newSingleThreadExecutor();
+        daoContext.setQueryExecutor(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        daoContext.nativeUpdate("SHUTDOWN");
+        replica.nativeUpdate("SHUTDOWN");
+    }
+
+    @Test
+    void pinnedPageCountStaysOnPrimary() {
+        daoContext.setReadYourWritesMillis(TimeUnit.MINUTES.toMillis(1L));
+        daoContext.batchInsert(TestUser.list(3));
+        PageResult<TestUser> page = daoContext.selectPage("SELECT * FROM T_USER", 1L, 2L, TestUser.class);
+        assertEquals(2, page.getRecords().size());
+        assertEquals(3L, page.getTotal());
+    }
+}
\ No newline at end of file
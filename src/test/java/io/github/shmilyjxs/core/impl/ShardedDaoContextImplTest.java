@@ -0,0 +1,77 @@
+package io.github.shmilyjxs.core.impl;
+
+import io.github.shmilyjxs.utils.PageResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedDaoContextImplTest {
+
+    private ShardedDaoContextImpl daoContext;
+
+    @BeforeEach
+    void setUp() {
+        daoContext = new ShardedDaoContextImpl(Arrays.asList(TestUser.dataSource(), TestUser.dataSource()), new HashShardStrategy());
+        daoContext.getShards().forEach(e -> e.nativeUpdate(TestUser.DDL));
+    }
+
+    @AfterEach
+    void tearDown() {
+        daoContext.getShards().forEach(e -> e.nativeUpdate("SHUTDOWN"));
+        daoContext.close();
+    }
+
+    private static List<Integer> ages(List<TestUser> users) {
+        return users.stream().map(TestUser::getAge).collect(Collectors.toList());
+    }
+
+    @Test
+    void routesWritesAndGathersReads() {
+        List<TestUser> users = TestUser.list(20);
+        daoContext.batchInsert(users);
+        assertEquals(20L, daoContext.count("SELECT * FROM T_USER"));
+        assertTrue(daoContext.getShards().stream().allMatch(e -> e.count("SELECT * FROM T_USER") > 0L));
+        List<String> ids = users.stream().map(TestUser::getId).collect(Collectors.toList());
+        assertEquals(20, daoContext.getBeans(ids, TestUser.class).size());
+        TestUser user = users.get(7);
+        assertEquals("user_7", daoContext.getBean(user.getId(), TestUser.class).getName());
+        assertEquals(20, daoContext.nativeUpdate("UPDATE T_USER SET NAME = ?", "renamed"));
+    }
+
+    @Test
+    void mergesOrderedResults() {
+        daoContext.batchInsert(TestUser.list(20));
+        List<Integer> ascending = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+        List<Integer> descending = IntStream.range(0, 20).mapToObj(e -> 19 - e).collect(Collectors.toList());
+        assertEquals(descending, ages(daoContext.selectBeans("SELECT * FROM T_USER ORDER BY AGE DESC", TestUser.class)));
+        List<Map<String, Object>> maps = daoContext.selectList("SELECT ID , AGE FROM T_USER ORDER BY AGE");
+        assertEquals(ascending, maps.stream().map(e -> ((Number) e.get("AGE")).intValue()).collect(Collectors.toList()));
+        PageResult<TestUser> page = daoContext.selectPage("SELECT * FROM T_USER ORDER BY AGE", 2L, 5L, TestUser.class);
+        assertEquals(20L, page.getTotal());
+        assertEquals(Arrays.asList(5, 6, 7, 8, 9), ages(page.getRecords()));
+        try (Stream<TestUser> stream = daoContext.streamBeans("SELECT * FROM T_USER ORDER BY AGE", 4, TestUser.class)) {
+            assertEquals(ascending, ages(stream.collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    void rejectsOperationsThatCannotBeMerged() {
+        daoContext.batchInsert(TestUser.list(4));
+        assertThrows(IllegalStateException.class, () -> daoContext.scalar("SELECT MAX(AGE) FROM T_USER", Integer.class));
+        assertThrows(IllegalStateException.class, () -> daoContext.nativeUpdate("INSERT INTO T_USER ( ID ) VALUES ( ? )", "1"));
+        assertThrows(IllegalStateException.class, () -> daoContext.downRecursiveSql("T_USER", "ID", "1", "NAME", TestUser.class));
+        assertThrows(IllegalArgumentException.class, () -> daoContext.selectList("SELECT * FROM T_USER ORDER BY LOWER(NAME)"));
+        assertThrows(IllegalArgumentException.class, () -> daoContext.selectList("SELECT ID FROM T_USER ORDER BY AGE"));
+    }
+}
\ No newline at end of file
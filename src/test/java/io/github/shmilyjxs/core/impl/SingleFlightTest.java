@@ -0,0 +1,107 @@
+package io.github.shmilyjxs.core.impl;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.github.shmilyjxs.listener.ISqlListener;
+import io.github.shmilyjxs.listener.SqlEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SingleFlightTest {
+
+    private static final String SQL = "SELECT * FROM T_USER WHERE AGE = ?";
+
+    private static void await(LongSupplier counter, long expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (counter.getAsLong() < expected) {
+            if (System.nanoTime() > deadline) {
+                fail("counter did not reach " + expected);
+            }
+            Uninterruptibles.sleepUninterruptibly(1L, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    void concurrentIdenticalReadsShareOneQuery() throws Exception {
+        DaoContextImpl daoContext = new DaoContextImpl(TestUser.dataSource());
+        daoContext.nativeUpdate(TestUser.DDL);
+        daoContext.insert(TestUser.of("alice", 30));
+        daoContext.setSingleFlight(true);
+        CountDownLatch release = new CountDownLatch(1);
+        daoContext.addListener(new ISqlListener() {
+            @Override
+            public void beforeExecute(SqlEvent event) {
+                if (SQL.equals(event.getSql())) {
+                    Uninterruptibles.awaitUninterruptibly(release);
+                }
+            }
+
+            @Override
+            public void afterExecute(SqlEvent event) {
+            }
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<TestUser>> leader = executor.submit(() -> daoContext.selectBeans(SQL, TestUser.class, 30));
+            await(daoContext::getFlightCount, 1L);
+            Future<List<TestUser>> follower = executor.submit(() -> daoContext.selectBeans(SQL, TestUser.class, 30));
+            await(daoContext::getCollapsedCount, 1L);
+            release.countDown();
+            List<TestUser> leaderResult = leader.get(5L, TimeUnit.SECONDS);
+            List<TestUser> followerResult = follower.get(5L, TimeUnit.SECONDS);
+            assertEquals(1, leaderResult.size());
+            assertEquals("alice", followerResult.get(0).getName());
+            assertNotSame(leaderResult.get(0), followerResult.get(0));
+            assertEquals(1L, daoContext.getFlightCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            daoContext.nativeUpdate("SHUTDOWN");
+        }
+    }
+
+    @Test
+    void transactionalReadsDoNotShare() {
+        DaoContextImpl daoContext = new DaoContextImpl(TestUser.dataSource());
+        daoContext.nativeUpdate(TestUser.DDL);
+        daoContext.setSingleFlight(true);
+        new TransactionTemplate(new DataSourceTransactionManager(daoContext.getDataSource())).executeWithoutResult(status -> daoContext.selectBeans(SQL, TestUser.class, 30));
+        assertEquals(0L, daoContext.getFlightCount());
+        daoContext.selectBeans(SQL, TestUser.class, 30);
+        assertEquals(1L, daoContext.getFlightCount());
+        daoContext.nativeUpdate("SHUTDOWN");
+    }
+
+    @Test
+    void readsPinnedToPrimaryDoNotShare() throws Exception {
+        DataSource dataSource = TestUser.dataSource();
+        ReadWriteDaoContextImpl daoContext = new ReadWriteDaoContextImpl(dataSource, Collections.singletonList(dataSource));
+        daoContext.setReadYourWritesMillis(TimeUnit.MINUTES.toMillis(1L));
+        daoContext.setSingleFlight(true);
+        daoContext.getJdbcTemplate().execute(TestUser.DDL);
+        daoContext.selectBeans(SQL, TestUser.class, 30);
+        assertEquals(0L, daoContext.getFlightCount());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> daoContext.selectBeans(SQL, TestUser.class, 30)).get(5L, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1L, daoContext.getFlightCount());
+        daoContext.getJdbcTemplate().execute("SHUTDOWN");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package io.github.shmilyjxs.core.impl;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Table(name = "T_USER")
+public class TestUser {
+
+    static final String DDL = "CREATE TABLE T_USER ( ID VARCHAR(64) PRIMARY KEY , NAME VARCHAR(64) , AGE INT , CONTENT CLOB )";
+
+    @Id
+    private String id;
+
+    private String name;
+
+    private Integer age;
+
+    @Lob
+    private String content;
+
+    static DataSource dataSource() {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1");
+    }
+
+    static TestUser of(String name, Integer age) {
+        TestUser user = new TestUser();
+        user.setName(name);
+        user.setAge(age);
+        return user;
+    }
+
+    static List<TestUser> list(int size) {
+        return IntStream.range(0, size).mapToObj(e -> of("user_" + e, e)).collect(Collectors.toList());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
\ No newline at end of file
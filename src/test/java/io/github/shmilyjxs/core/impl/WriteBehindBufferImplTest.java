@@ -0,0 +1,101 @@
+package io.github.shmilyjxs.core.impl;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class WriteBehindBufferImplTest {
+
+    private DaoContextImpl daoContext;
+
+    @BeforeEach
+    void setUp() {
+        daoContext = new DaoContextImpl(TestUser.dataSource());
+        daoContext.nativeUpdate(TestUser.DDL);
+        daoContext.getTableInfo(TestUser.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        daoContext.nativeUpdate("SHUTDOWN");
+    }
+
+    @Test
+    void coalescesUpdatesIntoPendingInsert() {
+        try (WriteBehindBufferImpl buffer = new WriteBehindBufferImpl(daoContext, 1000, TimeUnit.MINUTES.toMillis(1L), 10000)) {
+            TestUser user = TestUser.of("alice", 30);
+            buffer.insert(user);
+            assertNotNull(user.getId());
+            user.setName("bob");
+            buffer.updateById(user, false);
+            assertEquals(1, buffer.size());
+            assertEquals(1L, buffer.getCoalesced());
+            buffer.flush();
+            assertEquals(1L, buffer.getFlushed());
+            assertEquals("bob", daoContext.getBean(user.getId(), TestUser.class).getName());
+        }
+    }
+
+    @Test
+    void explicitFlushRethrowsAndKeepsFailedWrites() {
+        try (WriteBehindBufferImpl buffer = new WriteBehindBufferImpl(daoContext, 1000, TimeUnit.MINUTES.toMillis(1L), 10000)) {
+            daoContext.nativeUpdate("ALTER TABLE T_USER RENAME TO T_USER_OLD");
+            buffer.insert(TestUser.of("alice", 30));
+            assertThrows(DataAccessException.class, buffer::flush);
+            assertEquals(1, buffer.size());
+            daoContext.nativeUpdate("ALTER TABLE T_USER_OLD RENAME TO T_USER");
+            buffer.flush();
+            assertEquals(1L, daoContext.count("SELECT * FROM T_USER"));
+        }
+    }
+
+    @Test
+    void exhaustedBatchFallsBackToSingleRows() {
+        List<Object> dropped = new CopyOnWriteArrayList<>();
+        try (WriteBehindBufferImpl buffer = new WriteBehindBufferImpl(daoContext, 1000, TimeUnit.MINUTES.toMillis(1L), 10000)) {
+            buffer.setMaxRetries(0);
+            buffer.setErrorHandler((objs, e) -> dropped.addAll(objs));
+            buffer.insert(TestUser.of("alice", 30));
+            TestUser bad = TestUser.of(StringUtils.repeat('x', 100), 31);
+            buffer.insert(bad);
+            buffer.insert(TestUser.of("carol", 32));
+            assertThrows(DataAccessException.class, buffer::flush);
+            assertEquals(2L, daoContext.count("SELECT * FROM T_USER"));
+            assertEquals(1, dropped.size());
+            assertEquals(bad.getId(), ((TestUser) dropped.get(0)).getId());
+            assertEquals(0, buffer.size());
+        }
+    }
+
+    @Test
+    void periodicFlushRetriesFailedWrites() {
+        try (WriteBehindBufferImpl buffer = new WriteBehindBufferImpl(daoContext, 1000, 20L, 10000)) {
+            buffer.setMaxRetries(Integer.MAX_VALUE);
+            daoContext.nativeUpdate("ALTER TABLE T_USER RENAME TO T_USER_OLD");
+            buffer.insert(TestUser.of("alice", 30));
+            Uninterruptibles.sleepUninterruptibly(200L, TimeUnit.MILLISECONDS);
+            assertEquals(0L, buffer.getFlushed());
+            daoContext.nativeUpdate("ALTER TABLE T_USER_OLD RENAME TO T_USER");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+            while (buffer.getFlushed() < 1L) {
+                if (System.nanoTime() > deadline) {
+                    fail("write was not retried");
+                }
+                Uninterruptibles.sleepUninterruptibly(10L, TimeUnit.MILLISECONDS);
+            }
+            assertEquals(1L, daoContext.count("SELECT * FROM T_USER"));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package io.github.shmilyjxs.dialects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DialectTest {
+
+    private static final List<String> COLUMNS = Arrays.asList("NAME", "PAYLOAD");
+
+    @Test
+    void batchInsertSql() {
+        assertEquals("INSERT INTO T ( NAME , PAYLOAD ) VALUES ( ? , ? ) , ( ? , ? )", new H2Dialect().batchInsertSql("T", COLUMNS, 2));
+        assertEquals("INSERT INTO T ( NAME , PAYLOAD ) VALUES ( ? , ? ) , ( ? , ? )", new MySQLDialect().batchInsertSql("T", COLUMNS, 2));
+        assertEquals("INSERT INTO T ( NAME , PAYLOAD ) VALUES ( ? , ? ) , ( ? , ? )", new PostgreSQLDialect().batchInsertSql("T", COLUMNS, 2));
+        assertEquals("INSERT ALL INTO T ( NAME , PAYLOAD ) VALUES ( ? , ? ) INTO T ( NAME , PAYLOAD ) VALUES ( ? , ? ) SELECT 1 FROM DUAL", new OracleDialect().batchInsertSql("T", COLUMNS, 2));
+    }
+
+    @Test
+    void maxBatchInsertRows() {
+        assertEquals(21845, new H2Dialect().maxBatchInsertRows(3));
+        assertEquals(10922, new PostgreSQLDialect().maxBatchInsertRows(3));
+        assertEquals(333, new OracleDialect().maxBatchInsertRows(3));
+        assertEquals(1, new OracleDialect().maxBatchInsertRows(2000));
+        assertEquals(1, new MySQLDialect().maxBatchInsertRows(100000));
+    }
+
+    @Test
+    void bulkUpdateSql() {
+        Map<String, String> columnTypes = new HashMap<>();
+        columnTypes.put("ID", "uuid");
+        columnTypes.put("PAYLOAD", "jsonb");
+        assertEquals("UPDATE T tgt SET NAME = src.NAME , PAYLOAD = src.PAYLOAD FROM ( VALUES ( CAST(? AS uuid) , ? , CAST(? AS jsonb) ) , ( ? , ? , ? ) ) src ( ID , NAME , PAYLOAD ) WHERE tgt.ID = src.ID", new PostgreSQLDialect().bulkUpdateSql("T", "ID", COLUMNS, columnTypes, 2, false));
+        assertEquals("MERGE INTO T tgt USING ( VALUES ( ? , ? , ? ) , ( ? , ? , ? ) ) src ( ID , NAME , PAYLOAD ) ON ( tgt.ID = src.ID ) WHEN MATCHED THEN UPDATE SET tgt.NAME = src.NAME , tgt.PAYLOAD = src.PAYLOAD", new H2Dialect().bulkUpdateSql("T", "ID", COLUMNS, Collections.emptyMap(), 2, false));
+        assertEquals("UPDATE T tgt JOIN ( SELECT ? AS ID , ? AS NAME , ? AS PAYLOAD UNION ALL SELECT ? , ? , ? ) src ON tgt.ID = src.ID SET tgt.NAME = src.NAME , tgt.PAYLOAD = src.PAYLOAD", new MySQLDialect().bulkUpdateSql("T", "ID", COLUMNS, Collections.emptyMap(), 2, false));
+        assertEquals("MERGE INTO T tgt USING ( SELECT ? ID , ? NAME , ? PAYLOAD FROM DUAL UNION ALL SELECT ? , ? , ? FROM DUAL ) src ON ( tgt.ID = src.ID ) WHEN MATCHED THEN UPDATE SET tgt.NAME = src.NAME , tgt.PAYLOAD = src.PAYLOAD", new OracleDialect().bulkUpdateSql("T", "ID", COLUMNS, Collections.emptyMap(), 2, false));
+    }
+
+    @Test
+    void keysetSql() {
+        assertEquals("SELECT * FROM T WHERE ID > ? ORDER BY ID LIMIT 11", new H2Dialect().keysetSql("SELECT * FROM T", "ID", false, 11L));
+        assertEquals("SELECT * FROM T WHERE ( A = ? OR B IN ( SELECT B FROM U WHERE C = 'x' ) ) AND ID > ? ORDER BY ID LIMIT 11", new PostgreSQLDialect().keysetSql("SELECT * FROM T WHERE A = ? OR B IN ( SELECT B FROM U WHERE C = 'x' )", "ID", false, 11L));
+        assertEquals("SELECT * FROM T WHERE A = ? ORDER BY ID LIMIT 11", new MySQLDialect().keysetSql("SELECT * FROM T WHERE A = ?", "ID", true, 11L));
+        assertEquals("SELECT * FROM ( SELECT * FROM T WHERE ( A = ? ) AND ID > ? ORDER BY ID ) WHERE ROWNUM <= 11", new OracleDialect().keysetSql("SELECT * FROM T WHERE A = ?", "ID", false, 11L));
+        assertEquals("SELECT * FROM ( SELECT A ID , COUNT(*) N FROM T GROUP BY A ) tmp WHERE ID > ? ORDER BY ID LIMIT 11", new H2Dialect().keysetSql("SELECT A ID , COUNT(*) N FROM T GROUP BY A", "ID", false, 11L));
+    }
+
+    @Test
+    void columnTypesSql() {
+        assertEquals("SELECT a.attname AS COLUMN_NAME , format_type(a.atttypid, NULL) AS TYPE_NAME FROM pg_attribute a JOIN pg_class c ON c.oid = a.attrelid JOIN pg_namespace n ON n.oid = c.relnamespace WHERE n.nspname = current_schema() AND c.relname = 'T' AND a.attnum > 0 AND NOT a.attisdropped ORDER BY a.attnum", new PostgreSQLDialect().columnTypesSql("T"));
+        assertNull(new H2Dialect().columnTypesSql("T"));
+    }
+
+    @Test
+    void columnSql() {
+        assertEquals("SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = UPPER('users') ORDER BY ORDINAL_POSITION", new H2Dialect().columnSql("users"));
+        assertEquals("SELECT TABLE_NAME , COLUMN_NAME FROM ALL_TAB_COLUMNS WHERE OWNER = SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') AND TABLE_NAME IN ( 'A' , 'B' ) ORDER BY TABLE_NAME , COLUMN_ID", new OracleDialect().columnsSql(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    void recursiveSql() {
+        List<String> columns = Arrays.asList("ID", "PID");
+        assertEquals("WITH RECURSIVE cte AS ( SELECT t.ID , t.PID FROM T t WHERE t.ID = ? UNION ALL SELECT deep.ID , deep.PID FROM T deep JOIN cte ON deep.PID = cte.ID ) SELECT * FROM cte", new H2Dialect().downRecursiveSql("T", columns, "ID", "PID"));
+        assertEquals("WITH RECURSIVE cte AS ( SELECT t.* FROM T t WHERE t.ID = ? UNION ALL SELECT deep.* FROM T deep JOIN cte ON deep.ID = cte.PID ) SELECT * FROM cte", new PostgreSQLDialect().upRecursiveSql("T", Collections.emptyList(), "ID", "PID"));
+        assertEquals("SELECT t.ID , t.PID FROM T t START WITH t.ID = ? CONNECT BY PRIOR t.ID = t.PID", new OracleDialect().downRecursiveSql("T", columns, "ID", "PID"));
+        assertEquals("SELECT t.* FROM T t START WITH t.ID = ? CONNECT BY PRIOR t.PID = t.ID", new OracleDialect().upRecursiveSql("T", Collections.emptyList(), "ID", "PID"));
+    }
+}
\ No newline at end of file